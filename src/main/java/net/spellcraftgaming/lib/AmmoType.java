@@ -0,0 +1,80 @@
+package net.spellcraftgaming.lib;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemArrow;
+import net.minecraft.item.ItemStack;
+import net.minecraft.potion.PotionType;
+import net.minecraft.potion.PotionUtils;
+
+/**
+ * A kind of arrow: the arrow item and the potion it is tipped with.<br>
+ * Classifying a stack needs its potion to be read from NBT, so the results are
+ * cached by the fingerprint of the stack (ignoring its size).
+ */
+public class AmmoType {
+
+    /** The maximum amount of cached classifications before the cache is cleared */
+    private static final int CACHE_SIZE = 256;
+
+    private static final Map<StackFingerprint, AmmoType> cache = new HashMap<StackFingerprint, AmmoType>();
+    private static final Map<AmmoType, AmmoType> types = new HashMap<AmmoType, AmmoType>();
+
+    /** Reusable fingerprint for cache lookups */
+    private static final StackFingerprint probe = new StackFingerprint();
+
+    public final Item item;
+    public final PotionType potion;
+    private ItemStack icon;
+
+    private AmmoType(Item item, PotionType potion) {
+        this.item = item;
+        this.potion = potion;
+    }
+
+    /**
+     * Returns the kind of arrow of the stack
+     * 
+     * @param stack the stack
+     * @return the kind of arrow or null if the stack is no arrow
+     */
+    public static AmmoType of(ItemStack stack) {
+        if(stack.isEmpty() || !(stack.getItem() instanceof ItemArrow))
+            return null;
+        AmmoType type = cache.get(probe.setKind(stack));
+        if(type == null) {
+            type = new AmmoType(stack.getItem(), PotionUtils.getPotionFromItem(stack));
+            AmmoType known = types.get(type);
+            if(known == null)
+                types.put(type, type);
+            else
+                type = known;
+            if(cache.size() >= CACHE_SIZE)
+                cache.clear();
+            cache.put(new StackFingerprint().set(probe), type);
+        }
+        return type;
+    }
+
+    /** Returns a stack of this kind of arrow to be rendered as icon */
+    public ItemStack getIcon() {
+        if(this.icon == null)
+            this.icon = PotionUtils.addPotionToItemStack(new ItemStack(this.item), this.potion);
+        return this.icon;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this.item) * 31 + System.identityHashCode(this.potion);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(!(o instanceof AmmoType))
+            return false;
+        AmmoType type = (AmmoType) o;
+        return this.item == type.item && this.potion == type.potion;
+    }
+}
@@ -1,6 +1,9 @@
 package net.spellcraftgaming.lib;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.lwjgl.opengl.GL11;
 
@@ -26,12 +29,11 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Items;
 import net.minecraft.init.MobEffects;
 import net.minecraft.inventory.IInventory;
+import net.minecraft.item.ItemArrow;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.ItemTippedArrow;
 import net.minecraft.potion.Potion;
 import net.minecraft.potion.PotionEffect;
-import net.minecraft.potion.PotionType;
-import net.minecraft.potion.PotionUtils;
+import net.minecraft.util.EntitySelectors;
 import net.minecraft.util.EnumHandSide;
 import net.minecraft.util.FoodStats;
 import net.minecraft.util.ResourceLocation;
@@ -41,6 +43,7 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.client.event.GuiScreenEvent;
 import net.minecraftforge.client.event.RenderGameOverlayEvent;
 import net.minecraftforge.common.ForgeHooks;
@@ -168,6 +171,30 @@ public class GameData {
         return getMount() instanceof EntityLivingBase;
     }
 
+    /**
+     * Writes the fingerprint of the stack into the given one, without creating
+     * any objects
+     * 
+     * @param item        the stack
+     * @param fingerprint the fingerprint to write into
+     * @return the fingerprint
+     */
+    public static StackFingerprint getFingerprint(ItemStack item, StackFingerprint fingerprint) {
+        return fingerprint.set(item);
+    }
+
+    /**
+     * Checks whether the stack changed since the fingerprint was last taken and
+     * updates it
+     * 
+     * @param item        the stack
+     * @param fingerprint the fingerprint taken last time
+     * @return true if the stack changed
+     */
+    public static boolean hasStackChanged(ItemStack item, StackFingerprint fingerprint) {
+        return fingerprint.update(item);
+    }
+
     public static ItemStack getMainInventoryItemOfSlot(int slot) {
         return getPlayer().inventory.mainInventory.get(slot);
     }
@@ -193,11 +220,11 @@ public class GameData {
     }
 
     public static boolean hasPlayerClock() {
-        return getPlayer().inventory.hasItemStack(new ItemStack(Items.CLOCK));
+        return InventoryPresence.has(Items.CLOCK);
     }
 
     public static boolean hasPlayerCompass() {
-        return getPlayer().inventory.hasItemStack(new ItemStack(Items.COMPASS));
+        return InventoryPresence.has(Items.COMPASS);
     }
 
     public static int getPlayerArmorInventoryLength() {
@@ -270,20 +297,6 @@ public class GameData {
         return getMinecraft().gameSettings.attackIndicator;
     }
 
-    public static int addArrowStackIfCorrect(ItemStack item, ItemStack arrow) {
-        PotionType type1 = null;
-        if(item.getItem() instanceof ItemTippedArrow)
-            type1 = PotionUtils.getPotionTypeFromNBT(item.getTagCompound());
-        if(item.getItem() instanceof ItemTippedArrow) {
-            PotionType type2 = PotionUtils.getPotionTypeFromNBT(arrow.getTagCompound());
-            if(type1.getEffects() == type2.getEffects())
-                return GameData.getItemStackSize(arrow);
-        } else
-            return GameData.getItemStackSize(arrow);
-
-        return GameData.getItemStackSize(arrow);
-    }
-
     public static ItemStack arrowStack() {
         return new ItemStack(Items.ARROW);
     }
@@ -317,11 +330,7 @@ public class GameData {
     }
 
     public static boolean isArrow(ItemStack item) {
-        if(item != GameData.nullStack())
-            return ItemStack.areItemsEqual(item, arrowStack());
-        // return item.getItem() instanceof ItemArrow;
-
-        return false;
+        return item != GameData.nullStack() && item.getItem() instanceof ItemArrow;
     }
 
     public static void doRenderDirections() {
@@ -428,9 +437,134 @@ public class GameData {
         return 0;
     }
 
+    /** The entities near the current section of the focus ray, reused between sections */
+    private static final List<Entity> focusCandidates = new ArrayList<Entity>();
+
     public static EntityLiving getFocusedEntity(Entity watcher) {
+        return getFocusedEntity(watcher, 64);
+    }
+
+    /**
+     * Returns the living entity the watcher is looking at
+     * 
+     * @param watcher     the entity looking
+     * @param maxDistance the maximum distance of the entity
+     * @return the entity or null if there is none within the distance
+     */
+    public static EntityLiving getFocusedEntity(Entity watcher, double maxDistance) {
+        EntityLiving focusedEntity = null;
+        Vec3d vec = new Vec3d(watcher.posX, watcher.posY, watcher.posZ);
+        Vec3d posVec = watcher.getPositionVector();
+        if(watcher instanceof EntityPlayer) {
+            vec = vec.addVector(0D, watcher.getEyeHeight(), 0D);
+            posVec = posVec.addVector(0D, watcher.getEyeHeight(), 0D);
+        }
+        Vec3d lookVec = watcher.getLookVec();
+        Vec3d vec2 = vec.add(lookVec.normalize().scale(maxDistance));
+        RayTraceResult ray = GameData.getWorldOfEntity(watcher).rayTraceBlocks(vec, vec2);
+
+        double distance = maxDistance;
+        if(ray != null)
+            distance = ray.hitVec.distanceTo(posVec);
+        Vec3d reachVector = posVec.addVector(lookVec.x * maxDistance, lookVec.y * maxDistance, lookVec.z * maxDistance);
+
+        double currentDistance = distance;
+
+        // Walk the 16x16x16 sections the ray passes in order and only query
+        // the entities near the part of the ray inside each section
+        Vec3d dir = lookVec.normalize();
+        int sectionX = MathHelper.floor(posVec.x) >> 4;
+        int sectionY = MathHelper.floor(posVec.y) >> 4;
+        int sectionZ = MathHelper.floor(posVec.z) >> 4;
+        double deltaX = dir.x != 0 ? 16D / Math.abs(dir.x) : Double.POSITIVE_INFINITY;
+        double deltaY = dir.y != 0 ? 16D / Math.abs(dir.y) : Double.POSITIVE_INFINITY;
+        double deltaZ = dir.z != 0 ? 16D / Math.abs(dir.z) : Double.POSITIVE_INFINITY;
+        double nextX = dir.x != 0 ? ((sectionX + (dir.x > 0 ? 1 : 0)) * 16 - posVec.x) / dir.x : Double.POSITIVE_INFINITY;
+        double nextY = dir.y != 0 ? ((sectionY + (dir.y > 0 ? 1 : 0)) * 16 - posVec.y) / dir.y : Double.POSITIVE_INFINITY;
+        double nextZ = dir.z != 0 ? ((sectionZ + (dir.z > 0 ? 1 : 0)) * 16 - posVec.z) / dir.z : Double.POSITIVE_INFINITY;
+
+        double entry = 0D;
+        while(entry <= distance) {
+            double exit = Math.min(nextX, Math.min(nextY, nextZ));
+            double end = Math.min(exit, distance);
+            double fromX = posVec.x + dir.x * entry;
+            double fromY = posVec.y + dir.y * entry;
+            double fromZ = posVec.z + dir.z * entry;
+            double toX = posVec.x + dir.x * end;
+            double toY = posVec.y + dir.y * end;
+            double toZ = posVec.z + dir.z * end;
+            // The margin covers the collision border of the entities
+            AxisAlignedBB segment = new AxisAlignedBB(Math.min(fromX, toX) - 1D, Math.min(fromY, toY) - 1D, Math.min(fromZ, toZ) - 1D, Math.max(fromX, toX) + 1D,
+                    Math.max(fromY, toY) + 1D, Math.max(fromZ, toZ) + 1D);
+            collectEntities(GameData.getWorldOfEntity(watcher), watcher, segment, focusCandidates);
+            for(int i = 0; i < focusCandidates.size(); i++) {
+                Entity entity = focusCandidates.get(i);
+                if(entity instanceof EntityLiving) {
+                    float collisionBorderSize = entity.getCollisionBorderSize();
+                    AxisAlignedBB hitBox = entity.getEntityBoundingBox().grow(collisionBorderSize);
+                    RayTraceResult intercept = hitBox.calculateIntercept(posVec, reachVector);
+                    if(hitBox.contains(posVec)) {
+                        if(currentDistance <= 0D) {
+                            currentDistance = 0;
+                            focusedEntity = (EntityLiving) entity;
+                        }
+                    } else if(intercept != null) {
+                        double distanceToEntity = posVec.distanceTo(intercept.hitVec);
+                        if(distanceToEntity <= currentDistance) {
+                            currentDistance = distanceToEntity;
+                            focusedEntity = (EntityLiving) entity;
+                        }
+                    }
+                }
+            }
+            // Entities not found yet can only be hit after this section
+            if(focusedEntity != null && currentDistance <= exit)
+                break;
+            if(exit == nextX)
+                nextX += deltaX;
+            else if(exit == nextY)
+                nextY += deltaY;
+            else
+                nextZ += deltaZ;
+            entry = exit;
+        }
+        focusCandidates.clear();
+        return focusedEntity;
+    }
+
+    /**
+     * Collects the entities within the box like
+     * World.getEntitiesWithinAABBExcludingEntity, but into the given list
+     * instead of a new one
+     */
+    private static void collectEntities(World world, Entity excluded, AxisAlignedBB box, List<Entity> list) {
+        list.clear();
+        int minX = MathHelper.floor((box.minX - World.MAX_ENTITY_RADIUS) / 16.0D);
+        int maxX = MathHelper.floor((box.maxX + World.MAX_ENTITY_RADIUS) / 16.0D);
+        int minZ = MathHelper.floor((box.minZ - World.MAX_ENTITY_RADIUS) / 16.0D);
+        int maxZ = MathHelper.floor((box.maxZ + World.MAX_ENTITY_RADIUS) / 16.0D);
+        for(int x = minX; x <= maxX; x++) {
+            for(int z = minZ; z <= maxZ; z++) {
+                Chunk chunk = world.getChunkProvider().getLoadedChunk(x, z);
+                if(chunk != null)
+                    chunk.getEntitiesWithinAABBForEntity(excluded, box, list, EntitySelectors.NOT_SPECTATING);
+            }
+        }
+    }
+
+    /**
+     * Returns the living entity the watcher is looking at, testing every entity
+     * within the box around the whole look ray.<br>
+     * This is the broadphase used before the ray march of
+     * {@link #getFocusedEntity(Entity, double)}. It is only kept so both can be
+     * compared while the render diagnostics are logged.
+     * 
+     * @param watcher     the entity looking
+     * @param maxDistance the maximum distance of the entity
+     * @return the entity or null if there is none within the distance
+     */
+    public static EntityLiving getFocusedEntityInBox(Entity watcher, double maxDistance) {
         EntityLiving focusedEntity = null;
-        double maxDistance = 64;
         Vec3d vec = new Vec3d(watcher.posX, watcher.posY, watcher.posZ);
         Vec3d posVec = watcher.getPositionVector();
         if(watcher instanceof EntityPlayer) {
@@ -453,7 +587,7 @@ public class GameData {
         for(Entity entity : entitiesWithinMaxDistance)
             if(entity instanceof EntityLiving) {
                 float collisionBorderSize = entity.getCollisionBorderSize();
-                AxisAlignedBB hitBox = entity.getEntityBoundingBox().expand(collisionBorderSize, collisionBorderSize, collisionBorderSize);
+                AxisAlignedBB hitBox = entity.getEntityBoundingBox().grow(collisionBorderSize);
                 RayTraceResult intercept = hitBox.calculateIntercept(posVec, reachVector);
                 if(hitBox.contains(posVec)) {
                     if(currentDistance <= 0D) {
@@ -507,6 +641,42 @@ public class GameData {
     public static void renderPotionHUDEffect(Gui gui, Potion potion, PotionEffect effect, int x, int y, float alpha) {
         potion.renderHUDEffect(effect, gui, x, y, -90, alpha);
     }
+
+    /** Whether the potion classes override renderHUDEffect */
+    private static final Map<Class<?>, Boolean> customHUDEffects = new HashMap<Class<?>, Boolean>();
+
+    /**
+     * Checks whether the potion draws something itself in renderHUDEffect
+     *
+     * @param potion the potion
+     * @return true if renderHUDEffect of the potion does anything
+     */
+    public static boolean hasCustomHUDEffect(Potion potion) {
+        Boolean custom = customHUDEffects.get(potion.getClass());
+        if(custom == null) {
+            custom = overridesPotionMethod(potion.getClass(), "renderHUDEffect", PotionEffect.class, Gui.class, int.class, int.class, float.class, float.class)
+                    || overridesPotionMethod(potion.getClass(), "renderHUDEffect", int.class, int.class, PotionEffect.class, Minecraft.class, float.class);
+            customHUDEffects.put(potion.getClass(), custom);
+        }
+        return custom;
+    }
+
+    private static boolean overridesPotionMethod(Class<?> potionClass, String name, Class<?>... parameters) {
+        try {
+            return potionClass.getMethod(name, parameters).getDeclaringClass() != Potion.class;
+        } catch(NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the status icon of the potion is taken from the vanilla
+     * inventory background. Modded potions may bind their own texture.
+     */
+    public static boolean hasVanillaStatusIcon(Potion potion) {
+        ResourceLocation name = potion.getRegistryName();
+        return potion.hasStatusIcon() && name != null && name.getResourceDomain().equals("minecraft");
+    }
     
     public static ResourceLocation InventoryBackground() {
         return GuiContainer.INVENTORY_BACKGROUND;
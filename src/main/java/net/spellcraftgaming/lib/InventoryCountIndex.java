@@ -0,0 +1,215 @@
+package net.spellcraftgaming.lib;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.common.MinecraftForge;
+import net.spellcraftgaming.lib.event.InventoryChangeEvent;
+
+/**
+ * Keeps the total amount of every item in the inventory of the player.<br>
+ * Instead of summing up all slots whenever a count is needed, the slots are
+ * compared against a copy of their item, damage, size and NBT once per tick and
+ * only the changed slots are applied to the totals. Looking up a count is a
+ * single map access.
+ */
+public class InventoryCountIndex {
+
+    /** The player the index was built for */
+    private static EntityPlayer player;
+
+    /** Whether the index has to be built again from scratch */
+    private static boolean invalid = true;
+
+    /** The item, damage, size and NBT each slot had on the last update */
+    private static Item[] slotItems = new Item[0];
+    private static int[] slotDamage = new int[0];
+    private static int[] slotSize = new int[0];
+    private static NBTTagCompound[] slotNbt = new NBTTagCompound[0];
+
+    /** The kind of arrow in each slot, null if the slot holds no arrow */
+    private static AmmoType[] slotAmmo = new AmmoType[0];
+
+    /** The totals of every item, regardless of its damage */
+    private static final Map<Item, Integer> itemCounts = new HashMap<Item, Integer>();
+
+    /** The totals of every item with a specific damage value */
+    private static final Map<Long, Integer> variantCounts = new HashMap<Long, Integer>();
+
+    /** The totals of every kind of arrow */
+    private static final Map<AmmoType, Integer> ammoCounts = new HashMap<AmmoType, Integer>();
+
+    /**
+     * Forces the index to be built again on the next update, e.g. after a
+     * container was closed
+     */
+    public static void invalidate() {
+        invalid = true;
+    }
+
+    /**
+     * Returns the amount of the item in the inventory, regardless of the damage
+     * value (used for block counts)
+     */
+    public static int getCount(Item item) {
+        Integer count = itemCounts.get(item);
+        return count == null ? 0 : count.intValue();
+    }
+
+    /**
+     * Returns the amount of items equal to the item of the stack (same item and
+     * damage value, see {@link ItemStack#areItemsEqual(ItemStack, ItemStack)})
+     * in the inventory
+     */
+    public static int getCount(ItemStack stack) {
+        if(stack.isEmpty())
+            return 0;
+        return getCount(stack.getItem(), stack.getItemDamage());
+    }
+
+    /**
+     * Returns the amount of the item with the damage value in the inventory
+     */
+    public static int getCount(Item item, int damage) {
+        Integer count = variantCounts.get(variantKey(item, damage));
+        return count == null ? 0 : count.intValue();
+    }
+
+    /**
+     * Returns the amount of arrows of the kind in the inventory
+     */
+    public static int getCount(AmmoType type) {
+        Integer count = ammoCounts.get(type);
+        return count == null ? 0 : count.intValue();
+    }
+
+    /**
+     * Returns all kinds of arrows in the inventory
+     */
+    public static Set<AmmoType> getAmmoTypes() {
+        return Collections.unmodifiableSet(ammoCounts.keySet());
+    }
+
+    /**
+     * Applies all slots which changed since the last update to the totals
+     */
+    public static void update() {
+        EntityPlayer current = GameData.getPlayer();
+        if(current == null) {
+            if(player != null) {
+                player = null;
+                invalid = true;
+                itemCounts.clear();
+                variantCounts.clear();
+                ammoCounts.clear();
+                InventoryPresence.refresh();
+            }
+            return;
+        }
+        int size = current.inventory.getSizeInventory();
+        if(invalid || current != player || size != slotItems.length) {
+            rebuild(current, size);
+            InventoryPresence.refresh();
+            MinecraftForge.EVENT_BUS.post(new InventoryChangeEvent.Reset());
+            return;
+        }
+        List<InventoryChangeEvent.Slot> changes = null;
+        for(int slot = 0; slot < size; slot++) {
+            ItemStack stack = current.inventory.getStackInSlot(slot);
+            Item previousItem = slotItems[slot];
+            if(stack.isEmpty() ? previousItem != null
+                    : stack.getItem() != previousItem || stack.getItemDamage() != slotDamage[slot] || stack.getCount() != slotSize[slot]
+                            || stack.getTagCompound() != slotNbt[slot]) {
+                InventoryChangeEvent.Type type;
+                if(previousItem == null)
+                    type = InventoryChangeEvent.Type.ADDED;
+                else if(stack.isEmpty())
+                    type = InventoryChangeEvent.Type.REMOVED;
+                else if(stack.getItem() == previousItem && stack.getItemDamage() == slotDamage[slot] && stack.getTagCompound() == slotNbt[slot])
+                    type = InventoryChangeEvent.Type.COUNT_CHANGED;
+                else
+                    type = InventoryChangeEvent.Type.REPLACED;
+                if(changes == null)
+                    changes = new ArrayList<InventoryChangeEvent.Slot>();
+                changes.add(new InventoryChangeEvent.Slot(slot, type, stack, previousItem, slotSize[slot]));
+                remove(slot);
+                set(slot, stack);
+            }
+        }
+        if(changes != null) {
+            InventoryPresence.refresh();
+            // Fired after all slots are applied, so listeners see consistent totals
+            for(InventoryChangeEvent.Slot change : changes) {
+                MinecraftForge.EVENT_BUS.post(change);
+            }
+        }
+    }
+
+    private static void rebuild(EntityPlayer current, int size) {
+        player = current;
+        invalid = false;
+        slotItems = new Item[size];
+        slotDamage = new int[size];
+        slotSize = new int[size];
+        slotNbt = new NBTTagCompound[size];
+        slotAmmo = new AmmoType[size];
+        itemCounts.clear();
+        variantCounts.clear();
+        ammoCounts.clear();
+        for(int slot = 0; slot < size; slot++) {
+            set(slot, current.inventory.getStackInSlot(slot));
+        }
+    }
+
+    /** Stores the stack as content of the slot and adds it to the totals */
+    private static void set(int slot, ItemStack stack) {
+        if(stack.isEmpty())
+            return;
+        slotItems[slot] = stack.getItem();
+        slotDamage[slot] = stack.getItemDamage();
+        slotSize[slot] = stack.getCount();
+        slotNbt[slot] = stack.getTagCompound();
+        // The kind of arrow only needs to be read when the slot changed
+        slotAmmo[slot] = AmmoType.of(stack);
+        addTo(itemCounts, slotItems[slot], slotSize[slot]);
+        addTo(variantCounts, variantKey(slotItems[slot], slotDamage[slot]), slotSize[slot]);
+        if(slotAmmo[slot] != null)
+            addTo(ammoCounts, slotAmmo[slot], slotSize[slot]);
+    }
+
+    /** Removes the content of the slot from the totals */
+    private static void remove(int slot) {
+        if(slotItems[slot] == null)
+            return;
+        addTo(itemCounts, slotItems[slot], -slotSize[slot]);
+        addTo(variantCounts, variantKey(slotItems[slot], slotDamage[slot]), -slotSize[slot]);
+        if(slotAmmo[slot] != null)
+            addTo(ammoCounts, slotAmmo[slot], -slotSize[slot]);
+        slotItems[slot] = null;
+        slotDamage[slot] = 0;
+        slotSize[slot] = 0;
+        slotNbt[slot] = null;
+        slotAmmo[slot] = null;
+    }
+
+    private static <K> void addTo(Map<K, Integer> counts, K key, int amount) {
+        Integer count = counts.get(key);
+        int total = (count == null ? 0 : count.intValue()) + amount;
+        if(total == 0)
+            counts.remove(key);
+        else
+            counts.put(key, total);
+    }
+
+    private static Long variantKey(Item item, int damage) {
+        return ((long) Item.getIdFromItem(item) << 32) | (damage & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,74 @@
+package net.spellcraftgaming.lib;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+
+/**
+ * Tracks whether watched items are in the inventory of the player.<br>
+ * Every watched item gets a bit, which is refreshed from the
+ * {@link InventoryCountIndex} whenever the inventory changed, so checking for
+ * an item doesn't need to search the inventory.
+ */
+public class InventoryPresence {
+
+    private static final Map<Item, Integer> bits = new IdentityHashMap<Item, Integer>();
+    private static final List<Item> watched = new ArrayList<Item>();
+    private static final BitSet present = new BitSet();
+
+    static {
+        watch(Items.CLOCK);
+        watch(Items.COMPASS);
+    }
+
+    /**
+     * Starts tracking whether the item is in the inventory
+     * 
+     * @param item the item to watch
+     * @return the bit of the item
+     */
+    public static int watch(Item item) {
+        Integer bit = bits.get(item);
+        if(bit != null)
+            return bit.intValue();
+        bits.put(item, watched.size());
+        watched.add(item);
+        present.set(watched.size() - 1, InventoryCountIndex.getCount(item) > 0);
+        return watched.size() - 1;
+    }
+
+    /**
+     * Checks whether the item is in the inventory of the player
+     * 
+     * @param item the item, which should be watched to make this fast
+     * @return true if the player has the item
+     */
+    public static boolean has(Item item) {
+        Integer bit = bits.get(item);
+        if(bit == null)
+            return InventoryCountIndex.getCount(item) > 0;
+        return present.get(bit.intValue());
+    }
+
+    /**
+     * Checks whether the watched item with the bit is in the inventory
+     */
+    public static boolean has(int bit) {
+        return present.get(bit);
+    }
+
+    /**
+     * Reads the bits of all watched items again, called when the inventory
+     * changed
+     */
+    static void refresh() {
+        for(int bit = 0; bit < watched.size(); bit++) {
+            present.set(bit, InventoryCountIndex.getCount(watched.get(bit)) > 0);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package net.spellcraftgaming.lib;
+
+import java.util.Objects;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * Compact description of an ItemStack used to check whether a stack changed
+ * without copying it.<br>
+ * It consists of the item id, metadata, count, damage and the NBT data with its
+ * hash. Fingerprints compare the NBT data itself once the hashes match, so
+ * fingerprints kept for later (see {@link #set(StackFingerprint)} and
+ * {@link #update(ItemStack)}) hold a copy of it.<br>
+ * The hash is only taken again when the stack holds another compound than
+ * last time. {@link #set(ItemStack)} doesn't notice a compound that was
+ * modified in place, {@link #update(ItemStack)} does by comparing it with the
+ * kept copy once.
+ */
+public class StackFingerprint {
+
+    private int itemId = -1;
+    private int metadata;
+    private int count;
+    private int damage;
+    private int nbtHash;
+
+    /** The NBT compound of the stack, or a copy of it if the fingerprint is kept */
+    private NBTTagCompound nbt;
+
+    /** The compound of the stack the hash was taken from, only compared by identity */
+    private NBTTagCompound source;
+
+    /**
+     * Sets this fingerprint to the one of the stack
+     * 
+     * @param item the stack
+     * @return this fingerprint
+     */
+    public StackFingerprint set(ItemStack item) {
+        if(item.isEmpty()) {
+            this.itemId = -1;
+            this.metadata = 0;
+            this.count = 0;
+            this.damage = 0;
+            this.nbt = null;
+            this.source = null;
+            this.nbtHash = 0;
+            return this;
+        }
+        this.itemId = Item.getIdFromItem(item.getItem());
+        this.metadata = item.getMetadata();
+        this.count = item.getCount();
+        this.damage = item.getItemDamage();
+        NBTTagCompound nbt = item.getTagCompound();
+        if(nbt == null)
+            this.nbtHash = 0;
+        else if(nbt != this.source)
+            this.nbtHash = nbt.hashCode();
+        this.nbt = nbt;
+        this.source = nbt;
+        return this;
+    }
+
+    /**
+     * Sets this fingerprint to the one of the kind of the stack, which is the
+     * fingerprint with the size of the stack ignored
+     * 
+     * @param item the stack
+     * @return this fingerprint
+     */
+    public StackFingerprint setKind(ItemStack item) {
+        this.set(item);
+        this.count = 0;
+        return this;
+    }
+
+    /**
+     * Sets this fingerprint to the one of the stack if it differs
+     * 
+     * @param item the stack
+     * @return true if the fingerprint of the stack differed
+     */
+    public boolean update(ItemStack item) {
+        int itemId = this.itemId;
+        int metadata = this.metadata;
+        int count = this.count;
+        int damage = this.damage;
+        int nbtHash = this.nbtHash;
+        NBTTagCompound nbt = this.nbt;
+        NBTTagCompound source = this.source;
+        this.set(item);
+        boolean nbtChanged;
+        if(this.source == source) {
+            // The same compound as last time, only an edit in place can have changed it
+            nbtChanged = !Objects.equals(nbt, this.nbt);
+            if(nbtChanged && this.nbt != null)
+                this.nbtHash = this.nbt.hashCode();
+        } else {
+            nbtChanged = nbtHash != this.nbtHash || !Objects.equals(nbt, this.nbt);
+        }
+        boolean changed = nbtChanged || itemId != this.itemId || metadata != this.metadata || count != this.count || damage != this.damage;
+        // Keep a copy, the compound of the stack may be modified in place
+        this.nbt = nbtChanged ? copy(this.nbt) : nbt;
+        return changed;
+    }
+
+    /**
+     * Sets this fingerprint to the values of another one, with a copy of its NBT
+     * data
+     * 
+     * @param fingerprint the fingerprint to copy
+     * @return this fingerprint
+     */
+    public StackFingerprint set(StackFingerprint fingerprint) {
+        this.itemId = fingerprint.itemId;
+        this.metadata = fingerprint.metadata;
+        this.count = fingerprint.count;
+        this.damage = fingerprint.damage;
+        this.nbt = copy(fingerprint.nbt);
+        this.source = null;
+        this.nbtHash = fingerprint.nbtHash;
+        return this;
+    }
+
+    private static NBTTagCompound copy(NBTTagCompound nbt) {
+        return nbt == null ? null : nbt.copy();
+    }
+
+    @Override
+    public int hashCode() {
+        return (((this.itemId * 31 + this.metadata) * 31 + this.count) * 31 + this.damage) * 31 + this.nbtHash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(!(o instanceof StackFingerprint))
+            return false;
+        StackFingerprint f = (StackFingerprint) o;
+        return this.itemId == f.itemId && this.metadata == f.metadata && this.count == f.count && this.damage == f.damage && this.nbtHash == f.nbtHash
+                && Objects.equals(this.nbt, f.nbt);
+    }
+}
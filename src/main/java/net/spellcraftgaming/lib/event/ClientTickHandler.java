@@ -0,0 +1,26 @@
+package net.spellcraftgaming.lib.event;
+
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.spellcraftgaming.lib.InventoryCountIndex;
+import net.spellcraftgaming.rpghud.gui.hud.model.DetailsModel;
+import net.spellcraftgaming.rpghud.gui.hud.model.FocusModel;
+import net.spellcraftgaming.rpghud.gui.hud.model.StatusEffectModel;
+
+public class ClientTickHandler {
+
+    /**
+     * Event to update the data the HUD keeps between ticks
+     * 
+     * @param event
+     */
+    @SubscribeEvent
+    public void onClientTick(TickEvent.ClientTickEvent event) {
+        if(event.phase == TickEvent.Phase.END) {
+            InventoryCountIndex.update();
+            DetailsModel.update();
+            FocusModel.update();
+            StatusEffectModel.update();
+        }
+    }
+}
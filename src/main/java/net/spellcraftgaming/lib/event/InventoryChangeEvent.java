@@ -0,0 +1,81 @@
+package net.spellcraftgaming.lib.event;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fml.common.eventhandler.Event;
+
+/**
+ * Events fired on the client when the content of the inventory of the player
+ * changed.<br>
+ * The inventory is compared with its state of the last tick at the end of every
+ * client tick, so these events notice every change, no matter if it was caused
+ * by a pickup, a container, crafting or another mod. They are fired after the
+ * {@link net.spellcraftgaming.lib.InventoryCountIndex} was updated.
+ */
+public class InventoryChangeEvent extends Event {
+
+    /** The kind of change of a slot */
+    public enum Type {
+        /** The slot was empty before */
+        ADDED,
+        /** The slot is empty now */
+        REMOVED,
+        /** The slot holds the same item, but the size of the stack changed */
+        COUNT_CHANGED,
+        /** The slot holds a different item, damage value or NBT than before */
+        REPLACED;
+    }
+
+    /** Fired for every slot whose content changed */
+    public static class Slot extends InventoryChangeEvent {
+        private final int slot;
+        private final Type type;
+        private final ItemStack stack;
+        private final Item previousItem;
+        private final int previousCount;
+
+        public Slot(int slot, Type type, ItemStack stack, Item previousItem, int previousCount) {
+            this.slot = slot;
+            this.type = type;
+            this.stack = stack;
+            this.previousItem = previousItem;
+            this.previousCount = previousCount;
+        }
+
+        /** Returns the index of the slot in the inventory */
+        public int getSlot() {
+            return this.slot;
+        }
+
+        public Type getType() {
+            return this.type;
+        }
+
+        /** Returns the stack now in the slot */
+        public ItemStack getStack() {
+            return this.stack;
+        }
+
+        /** Returns the item previously in the slot, null if it was empty */
+        public Item getPreviousItem() {
+            return this.previousItem;
+        }
+
+        /** Returns the size of the stack previously in the slot */
+        public int getPreviousCount() {
+            return this.previousCount;
+        }
+
+        /** Checks whether the slot held or holds the item */
+        public boolean involves(Class<? extends Item> itemClass) {
+            return itemClass.isInstance(this.previousItem) || (!this.stack.isEmpty() && itemClass.isInstance(this.stack.getItem()));
+        }
+    }
+
+    /**
+     * Fired when the whole inventory was read again, e.g. for a new player or
+     * after a container was closed. Caches should treat every slot as changed.
+     */
+    public static class Reset extends InventoryChangeEvent {
+    }
+}
@@ -2,19 +2,18 @@ package net.spellcraftgaming.lib.event;
 
 import net.minecraftforge.event.entity.player.PlayerContainerEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
-import net.spellcraftgaming.rpghud.main.ModRPGHud;
+import net.spellcraftgaming.lib.InventoryCountIndex;
 
 public class PlayerContainerHandler {
 
     /**
-     * Event to set stack sizes of the HUD display to be recalculated again
+     * Event to read the whole inventory again, in case a container changed
+     * stacks in a way the comparison with the last tick can't notice
      * 
      * @param event
      */
     @SubscribeEvent
     public void onPlayerCloseContainer(PlayerContainerEvent.Close event) {
-        ModRPGHud.renderDetailsAgain[0] = true;
-        ModRPGHud.renderDetailsAgain[1] = true;
-        ModRPGHud.renderDetailsAgain[2] = true;
+        InventoryCountIndex.invalidate();
     }
 }
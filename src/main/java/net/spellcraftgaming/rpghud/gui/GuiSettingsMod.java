@@ -133,13 +133,12 @@ public class GuiSettingsMod extends GuiScreenTooltip {
                                     double value;
                                     try {
                                         value = Double.valueOf(textFields.get(settingID).get(0).getText());
-                                        this.settings.getSetting(settingID).setValue(value);
+                                        this.settings.setSetting(settingID, value);
                                     } catch(NumberFormatException e) {
                                     }
                                     break;
                                 case POSITION:
-                                    this.settings.getSetting(settingID)
-                                            .setValue(textFields.get(settingID).get(0).getText() + "_" + textFields.get(settingID).get(1).getText());
+                                    this.settings.setSetting(settingID, textFields.get(settingID).get(0).getText() + "_" + textFields.get(settingID).get(1).getText());
                                     break;
                             }
                         }
@@ -189,13 +188,12 @@ public class GuiSettingsMod extends GuiScreenTooltip {
                             double value;
                             try {
                                 value = Double.valueOf(textFields.get(settingID).get(0).getText());
-                                this.settings.getSetting(settingID).setValue(value);
+                                this.settings.setSetting(settingID, value);
                             } catch(NumberFormatException e) {
                             }
                             break;
                         case POSITION:
-                            this.settings.getSetting(settingID)
-                                    .setValue(textFields.get(settingID).get(0).getText() + "_" + textFields.get(settingID).get(1).getText());
+                            this.settings.setSetting(settingID, textFields.get(settingID).get(0).getText() + "_" + textFields.get(settingID).get(1).getText());
                             break;
                     }
                 }
@@ -16,7 +16,7 @@ import static net.spellcraftgaming.rpghud.gui.hud.element.HudElementType.LEVEL;
 import static net.spellcraftgaming.rpghud.gui.hud.element.HudElementType.STATUS_EFFECTS;
 import static net.spellcraftgaming.rpghud.gui.hud.element.HudElementType.WIDGET;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 import net.minecraft.client.Minecraft;
@@ -35,7 +35,7 @@ public abstract class Hud {
 	/** Hud name for display in settings */
 	private final String hudName;
 
-	protected Map<HudElementType, HudElement> elements = new HashMap<HudElementType, HudElement>();
+	protected Map<HudElementType, HudElement> elements = new EnumMap<HudElementType, HudElement>(HudElementType.class);
 
 	/** Minecraft instance */
 	protected Minecraft mc;
@@ -156,6 +156,17 @@ public abstract class Hud {
 		return this.elements.get(type).checkConditions();
 	}
 	
+	/**
+	 * Returns the element of the specified type
+	 * 
+	 * @param type
+	 *            The HudElementType of the element
+	 * @return the element or null if the vanilla element is used
+	 */
+	public HudElement getElement(HudElementType type) {
+		return this.elements.get(type);
+	}
+
 	public boolean isVanillaElement(HudElementType type) {
 	    return this.elements.get(type) == null;
 	}
@@ -1,12 +1,16 @@
 package net.spellcraftgaming.rpghud.gui.hud.element;
 
+import java.util.Arrays;
+
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.AbstractClientPlayer;
 import net.minecraft.client.gui.Gui;
 import net.minecraft.client.renderer.GlStateManager;
-import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.util.ResourceLocation;
 import net.spellcraftgaming.lib.GameData;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudRetainedState;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudTextCache;
 import net.spellcraftgaming.rpghud.main.ModRPGHud;
 import net.spellcraftgaming.rpghud.settings.Settings;
 
@@ -95,6 +99,12 @@ public abstract class HudElement {
 
     public HudElementType parent;
 
+    /** The state this element was last rendered with in retained mode */
+    private final int[] retainedState = new int[HudRetainedState.SIZE];
+
+    /** Buffer for the current state of this element in retained mode */
+    private final int[] retainedStateNew = new int[HudRetainedState.SIZE];
+
     /**
      * Constructor
      * 
@@ -130,6 +140,7 @@ public abstract class HudElement {
         GlStateManager.scale(this.scale, this.scale, this.scale);
 
         this.drawElement(gui, zLevel, partialTicks, scaledWidth, scaledHeight);
+        HudQuadBatch.flush();
 
         GlStateManager.scale(this.scaleInverted, this.scaleInverted, this.scaleInverted);
     }
@@ -241,7 +252,42 @@ public abstract class HudElement {
     }
 
     /**
-     * Draws a rectangle on the screen
+     * Returns whether this element may be rendered into the retained
+     * framebuffer. Elements that change their look without a change of the
+     * state collected by HudRetainedState (e.g. animations) have to return
+     * false.
+     */
+    public boolean isRetainable() {
+        return HudRetainedState.isTracked(this.type);
+    }
+
+    /**
+     * Returns whether this element has to be rendered every frame (e.g. because
+     * it is animated with the partialTicks) even if the HUD refresh rate is
+     * capped
+     */
+    public boolean requiresEveryFrame() {
+        return this.type == HudElementType.HOTBAR || this.type == HudElementType.JUMP_BAR;
+    }
+
+    /**
+     * Updates the state this element is rendered with in retained mode
+     * 
+     * @return true if the state has changed since the last call (the element is
+     *         dirty)
+     */
+    public boolean updateRetainedState() {
+        HudRetainedState.write(this.type, this.checkConditions(), this.retainedStateNew);
+        if(Arrays.equals(this.retainedState, this.retainedStateNew))
+            return false;
+        System.arraycopy(this.retainedStateNew, 0, this.retainedState, 0, this.retainedState.length);
+        return true;
+    }
+
+    /**
+     * Draws a rectangle on the screen<br>
+     * While a HudQuadBatch is open the rectangle is only buffered and drawn on
+     * the next flush
      * 
      * @param posX   the x positon on the screen
      * @param posY   the y positon on the screen
@@ -252,29 +298,7 @@ public abstract class HudElement {
     public static void drawRect(int posX, int posY, int width, int height, int color) {
         if(color == -1)
             return;
-        float f3;
-        if(color <= 0xFFFFFF && color >= 0)
-            f3 = 1.0F;
-        else
-            f3 = (color >> 24 & 255) / 255.0F;
-        float f = (color >> 16 & 255) / 255.0F;
-        float f1 = (color >> 8 & 255) / 255.0F;
-        float f2 = (color & 255) / 255.0F;
-        GlStateManager.enableBlend();
-        GlStateManager.disableTexture2D();
-        GameData.tryBlendFuncSeparate();
-        GlStateManager.color(f, f1, f2, f3);
-        GlStateManager.disableDepth();
-        GameData.beginVertex(7, DefaultVertexFormats.POSITION);
-        GameData.addVertexPos(posX, (double) posY + height, 0.0D);
-        GameData.addVertexPos((double) posX + width, (double) posY + height, 0.0D);
-        GameData.addVertexPos((double) posX + width, posY, 0.0D);
-        GameData.addVertexPos(posX, posY, 0.0D);
-        GameData.drawVertex();
-        GlStateManager.enableTexture2D();
-        GlStateManager.disableBlend();
-        GlStateManager.enableDepth();
-        GlStateManager.color(1f, 1f, 1f);
+        HudQuadBatch.addRect(posX, posY, width, height, color);
     }
 
     /**
@@ -431,29 +455,8 @@ public abstract class HudElement {
             return;
         if(width1 < 0) width1 = 0;
         if(width2 < 0) width2 = 0;
-        float f3;
-        if(color <= 0xFFFFFF && color >= 0)
-            f3 = 1.0F;
-        else
-            f3 = (color >> 24 & 255) / 255.0F;
-        float f = (color >> 16 & 255) / 255.0F;
-        float f1 = (color >> 8 & 255) / 255.0F;
-        float f2 = (color & 255) / 255.0F;
-        GlStateManager.enableBlend();
-        GlStateManager.disableTexture2D();
-        GameData.tryBlendFuncSeparate();
-        GlStateManager.color(f, f1, f2, f3);
-        GlStateManager.disableDepth();
-        GameData.beginVertex(7, DefaultVertexFormats.POSITION);
-        GameData.addVertexPos(posX1, (double) posY1 + height1, 0.0D);
-        GameData.addVertexPos((double) posX2 + width2, (double) posY2 + height2, 0.0D);
-        GameData.addVertexPos((double) posX1 + width1, posY2, 0.0D);
-        GameData.addVertexPos(posX2, posY1, 0.0D);
-        GameData.drawVertex();
-        GlStateManager.enableTexture2D();
-        GlStateManager.disableBlend();
-        GlStateManager.enableDepth();
-        GlStateManager.color(1f, 1f, 1f);
+        HudQuadBatch.addQuad(posX1, (double) posY1 + height1, (double) posX2 + width2, (double) posY2 + height2, (double) posX1 + width1, posY2, posX2, posY1,
+                color);
     }
 
     public static int offsetColorPercent(int color, int offsetPercent) {
@@ -520,6 +523,7 @@ public abstract class HudElement {
      * @param res The ResourceLocation of the texture that should be bind
      */
     protected void bind(ResourceLocation res) {
+        HudQuadBatch.flush();
         this.mc.getTextureManager().bindTexture(res);
     }
 
@@ -534,11 +538,22 @@ public abstract class HudElement {
     }
     
     protected void drawStringWithBackground(String text, int posX, int posY, int colorMain, int colorBackground) {
-        GameData.getFontRenderer().drawString(text, posX + 1, posY, colorBackground);
-        GameData.getFontRenderer().drawString(text, posX - 1, posY, colorBackground);
-        GameData.getFontRenderer().drawString(text, posX, posY + 1, colorBackground);
-        GameData.getFontRenderer().drawString(text, posX, posY - 1, colorBackground);
-        GameData.getFontRenderer().drawString(text, posX, posY, colorMain);
+        drawStringWithBackground(text, posX, posY, colorMain, colorBackground, 1D);
+    }
+
+    /**
+     * Draws a string with an outline using the outlined text cache
+     * 
+     * @param text            the string
+     * @param posX            the x position of the string
+     * @param posY            the y position of the string
+     * @param colorMain       the color of the string
+     * @param colorBackground the color of the outline
+     * @param scale           the scale applied by the element on top of its
+     *                        own scale
+     */
+    protected void drawStringWithBackground(String text, int posX, int posY, int colorMain, int colorBackground, double scale) {
+        HudTextCache.drawOutlined(text, posX, posY, colorMain, colorBackground, this.scale * scale);
         GlStateManager.enableBlend();
     }
 }
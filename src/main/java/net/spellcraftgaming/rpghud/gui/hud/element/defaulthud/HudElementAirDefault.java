@@ -5,7 +5,7 @@ import net.minecraft.client.renderer.GlStateManager;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementAirDefault extends HudElement {
 
@@ -20,12 +20,13 @@ public class HudElementAirDefault extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
-        int height = scaledHeight + this.settings.getPositionValue(Settings.air_position)[1];
-        int width = scaledWidth / 2 - 91 + this.settings.getPositionValue(Settings.air_position)[0];
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        int height = scaledHeight + snapshot.air_position[1];
+        int width = scaledWidth / 2 - 91 + snapshot.air_position[0];
         int airAmount = GameData.getPlayerAir();
         GlStateManager.disableLighting();
-        drawCustomBar(width + 21, height - 80, 141, 10, airAmount / 300.0D * 100.0D, this.settings.getIntValue(Settings.color_air),
-                offsetColorPercent(this.settings.getIntValue(Settings.color_air), OFFSET_PERCENT));
+        drawCustomBar(width + 21, height - 80, 141, 10, airAmount / 300.0D * 100.0D, snapshot.color_air,
+                offsetColorPercent(snapshot.color_air, OFFSET_PERCENT));
     }
 
 }
@@ -5,7 +5,7 @@ import net.minecraftforge.client.GuiIngameForge;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementArmorDefault extends HudElement {
 
@@ -20,8 +20,9 @@ public class HudElementArmorDefault extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
-        int left = scaledWidth / 2 - 91 + this.settings.getPositionValue(Settings.armor_position)[0];
-        int top = scaledHeight - GuiIngameForge.left_height + this.settings.getPositionValue(Settings.armor_position)[1];
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        int left = scaledWidth / 2 - 91 + snapshot.armor_position[0];
+        int top = scaledHeight - GuiIngameForge.left_height + snapshot.armor_position[1];
 
         int level = GameData.getPlayerArmor();
         for(int i = 1; level > 0 && i < 20; i += 2) {
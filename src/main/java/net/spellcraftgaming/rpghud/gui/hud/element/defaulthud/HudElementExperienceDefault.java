@@ -5,7 +5,8 @@ import net.minecraft.client.renderer.GlStateManager;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementExperienceDefault extends HudElement {
 
@@ -20,21 +21,23 @@ public class HudElementExperienceDefault extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         int exp = GameData.getPlayerXP();
         int expCap = GameData.getPlayerXPCap();
         double full = 100D / expCap;
-        int posX = this.settings.getPositionValue(Settings.experience_position)[0];
-        int posY = this.settings.getPositionValue(Settings.experience_position)[1];
+        int posX = snapshot.experience_position[0];
+        int posY = snapshot.experience_position[1];
         GlStateManager.disableLighting();
-        drawCustomBar(posX, scaledHeight - 10 + posY, scaledWidth, 10, exp * full, this.settings.getIntValue(Settings.color_experience),
-                offsetColorPercent(this.settings.getIntValue(Settings.color_experience), 25));
+        drawCustomBar(posX, scaledHeight - 10 + posY, scaledWidth, 10, exp * full, snapshot.color_experience,
+                offsetColorPercent(snapshot.color_experience, 25));
+        HudQuadBatch.flush();
 
-        String stringExp = this.settings.getBoolValue(Settings.experience_percentage)
+        String stringExp = snapshot.experience_percentage
                 ? (int) Math.floor((double) exp / (double) GameData.getPlayerXPCap() * 100) + "%"
                 : exp + "/" + GameData.getPlayerXPCap();
 
         int var7 = scaledWidth / 2;
-        if(this.settings.getBoolValue(Settings.show_numbers_experience))
+        if(snapshot.show_numbers_experience)
             gui.drawCenteredString(GameData.getFontRenderer(), stringExp, var7 + posX, scaledHeight - 9 + posY, -1);
     }
 
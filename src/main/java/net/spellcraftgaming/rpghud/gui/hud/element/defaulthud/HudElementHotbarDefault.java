@@ -1,7 +1,6 @@
 package net.spellcraftgaming.rpghud.gui.hud.element.defaulthud;
 
 import net.minecraft.client.gui.Gui;
-import net.minecraft.client.gui.ScaledResolution;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.client.renderer.RenderHelper;
 import net.minecraft.entity.player.EntityPlayer;
@@ -10,7 +9,8 @@ import net.minecraft.util.ResourceLocation;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudResolution;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementHotbarDefault extends HudElement {
 
@@ -27,16 +27,17 @@ public class HudElementHotbarDefault extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         if(this.mc.playerController.isSpectator()) {
-            this.mc.ingameGUI.getSpectatorGui().renderTooltip(new ScaledResolution(mc), partialTicks);
+            this.mc.ingameGUI.getSpectatorGui().renderTooltip(HudResolution.get(), partialTicks);
         } else if(this.mc.getRenderViewEntity() instanceof EntityPlayer) {
             GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
             this.mc.getTextureManager().bindTexture(WIDGETS_TEX_PATH);
             EntityPlayer entityplayer = (EntityPlayer) this.mc.getRenderViewEntity();
             ItemStack itemstack = GameData.getOffhand();
             int enumhandside = GameData.getOffhandSide();
-            int i = (scaledWidth / 2) + this.settings.getPositionValue(Settings.hotbar_position)[0];
-            int posY = this.settings.getPositionValue(Settings.hotbar_position)[1];
+            int i = (scaledWidth / 2) + snapshot.hotbar_position[0];
+            int posY = snapshot.hotbar_position[1];
             float f = zLevel;
             zLevel = -90.0F;
             gui.drawTexturedModalRect(i - 91, scaledHeight - 22 - 9 + posY, 0, 0, 182, 22);
@@ -4,7 +4,7 @@ import net.minecraft.client.gui.Gui;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementJumpBarDefault extends HudElement {
 
@@ -14,17 +14,18 @@ public class HudElementJumpBarDefault extends HudElement {
 
     @Override
     public boolean checkConditions() {
-        return GameData.isRidingLivingMount() && (this.settings.getBoolValue(Settings.limit_jump_bar) ? GameData.getHorseJumpPower() > 0F : true);
+        return GameData.isRidingLivingMount() && (this.settings.getSnapshot().limit_jump_bar ? GameData.getHorseJumpPower() > 0F : true);
     }
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
-        int height = scaledHeight + this.settings.getPositionValue(Settings.jump_bar_position)[1];
-        int center = (scaledWidth / 2) + this.settings.getPositionValue(Settings.jump_bar_position)[0];
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        int height = scaledHeight + snapshot.jump_bar_position[1];
+        int center = (scaledWidth / 2) + snapshot.jump_bar_position[0];
         float jumpPower = GameData.getHorseJumpPower();
         int value = (int) (jumpPower * 100.0F);
-        drawCustomBar(center - 70, height - 80, 141, 10, value / 100.0D * 100.0D, this.settings.getIntValue(Settings.color_jump_bar),
-                offsetColorPercent(this.settings.getIntValue(Settings.color_jump_bar), OFFSET_PERCENT));
+        drawCustomBar(center - 70, height - 80, 141, 10, value / 100.0D * 100.0D, snapshot.color_jump_bar,
+                offsetColorPercent(snapshot.color_jump_bar, OFFSET_PERCENT));
     }
 
 }
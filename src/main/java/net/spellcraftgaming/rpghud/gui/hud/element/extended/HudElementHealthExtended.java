@@ -4,7 +4,8 @@ import net.minecraft.client.gui.Gui;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementHealthExtended extends HudElement {
 
@@ -20,29 +21,31 @@ public class HudElementHealthExtended extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         int health = GameData.getPlayerHealth();
         int absorption = GameData.getPlayerAbsorption();
         int healthMax = GameData.getPlayerMaxHealth();
-        int posX = (this.settings.getBoolValue(Settings.render_player_face) ? 49 : 25) + this.settings.getPositionValue(Settings.health_position)[0];
-        int posY = (this.settings.getBoolValue(Settings.render_player_face) ? 9 : 5) + this.settings.getPositionValue(Settings.health_position)[1];
+        int posX = (snapshot.render_player_face ? 49 : 25) + snapshot.health_position[0];
+        int posY = (snapshot.render_player_face ? 9 : 5) + snapshot.health_position[1];
 
         if(absorption > 1)
             drawCustomBar(posX, posY, 110, 12, (double) (health + absorption) / (double) (healthMax + absorption) * 100D, -1, -1,
-                    this.settings.getIntValue(Settings.color_absorption), offsetColorPercent(this.settings.getIntValue(Settings.color_absorption), OFFSET_PERCENT));
+                    snapshot.color_absorption, offsetColorPercent(snapshot.color_absorption, OFFSET_PERCENT));
 
         if(GameData.isPlayerPoisoned()) {
-            drawCustomBar(posX, posY, 110, 12, (double) health / (double) (healthMax + absorption) * 100D, -1, -1, this.settings.getIntValue(Settings.color_poison),
-                    offsetColorPercent(this.settings.getIntValue(Settings.color_poison), OFFSET_PERCENT));
+            drawCustomBar(posX, posY, 110, 12, (double) health / (double) (healthMax + absorption) * 100D, -1, -1, snapshot.color_poison,
+                    offsetColorPercent(snapshot.color_poison, OFFSET_PERCENT));
         } else if(GameData.isPlayerWithering()) {
-            drawCustomBar(posX, posY, 110, 12, (double) health / (double) (healthMax + absorption) * 100D, -1, -1, this.settings.getIntValue(Settings.color_wither),
-                    offsetColorPercent(this.settings.getIntValue(Settings.color_wither), OFFSET_PERCENT));
+            drawCustomBar(posX, posY, 110, 12, (double) health / (double) (healthMax + absorption) * 100D, -1, -1, snapshot.color_wither,
+                    offsetColorPercent(snapshot.color_wither, OFFSET_PERCENT));
         } else {
-            drawCustomBar(posX, posY, 110, 12, (double) health / (double) (healthMax + absorption) * 100D, -1, -1, this.settings.getIntValue(Settings.color_health),
-                    offsetColorPercent(this.settings.getIntValue(Settings.color_health), OFFSET_PERCENT));
+            drawCustomBar(posX, posY, 110, 12, (double) health / (double) (healthMax + absorption) * 100D, -1, -1, snapshot.color_health,
+                    offsetColorPercent(snapshot.color_health, OFFSET_PERCENT));
         }
-        String stringHealth = this.settings.getBoolValue(Settings.health_percentage) ? (int) Math.floor((double) health / (double) healthMax * 100) + "%"
+        HudQuadBatch.flush();
+        String stringHealth = snapshot.health_percentage ? (int) Math.floor((double) health / (double) healthMax * 100) + "%"
                 : (health + absorption) + "/" + healthMax;
-        if(this.settings.getBoolValue(Settings.show_numbers_health))
+        if(snapshot.show_numbers_health)
             gui.drawCenteredString(GameData.getFontRenderer(), stringHealth, posX + 55, posY + 2, -1);
     }
 }
@@ -5,7 +5,7 @@ import net.minecraft.client.renderer.GlStateManager;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementLevelExtended extends HudElement {
 
@@ -21,12 +21,13 @@ public class HudElementLevelExtended extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         GlStateManager.disableBlend();
         String level = String.valueOf(GameData.getPlayerXPLevel());
         GameData.getFontRenderer().drawStringWithShadow(level,
-                (this.settings.getBoolValue(Settings.render_player_face) ? 38 : 13) + this.settings.getPositionValue(Settings.level_position)[0]
+                (snapshot.render_player_face ? 38 : 13) + snapshot.level_position[0]
                         - GameData.getFontRenderer().getStringWidth(level) / 2,
-                (this.settings.getBoolValue(Settings.render_player_face) ? 38 : 18) + this.settings.getPositionValue(Settings.level_position)[1], 0x80FF20);
+                (snapshot.render_player_face ? 38 : 18) + snapshot.level_position[1], 0x80FF20);
         GlStateManager.enableBlend();
     }
 
@@ -4,7 +4,7 @@ import net.minecraft.client.gui.Gui;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementArmorHotbar extends HudElement {
 
@@ -19,8 +19,9 @@ public class HudElementArmorHotbar extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
-        int left = (this.settings.getBoolValue(Settings.render_player_face) ? 46 : 22) + this.settings.getPositionValue(Settings.armor_position)[0];
-        int top = scaledHeight - 64 + this.settings.getPositionValue(Settings.armor_position)[1];
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        int left = (snapshot.render_player_face ? 46 : 22) + snapshot.armor_position[0];
+        int top = scaledHeight - 64 + snapshot.armor_position[1];
         int offset = GameData.getHotbarWidgetWidthOffset() / 2;
         int level = GameData.getPlayerArmor();
         for(int i = 1; level > 0 && i < 20; i += 2) {
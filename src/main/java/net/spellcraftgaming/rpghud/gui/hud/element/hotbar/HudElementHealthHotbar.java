@@ -4,7 +4,8 @@ import net.minecraft.client.gui.Gui;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementHealthHotbar extends HudElement {
 
@@ -20,31 +21,33 @@ public class HudElementHealthHotbar extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
-        int height = scaledHeight + this.settings.getPositionValue(Settings.health_position)[1];
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        int height = scaledHeight + snapshot.health_position[1];
         int health = GameData.getPlayerHealth();
-        int posX = (this.settings.getBoolValue(Settings.render_player_face) ? 49 : 25) + this.settings.getPositionValue(Settings.health_position)[0];
+        int posX = (snapshot.render_player_face ? 49 : 25) + snapshot.health_position[0];
         int healthMax = GameData.getPlayerMaxHealth();
         int absorption = GameData.getPlayerAbsorption();
         int offset = GameData.getHotbarWidgetWidthOffset();
 
         if(absorption > 1)
             drawCustomBar(posX, height - 56, 200 + offset, 10, (double) (health + absorption) / (double) (healthMax + absorption) * 100D, -1, -1,
-                    this.settings.getIntValue(Settings.color_absorption), offsetColorPercent(this.settings.getIntValue(Settings.color_absorption), OFFSET_PERCENT));
+                    snapshot.color_absorption, offsetColorPercent(snapshot.color_absorption, OFFSET_PERCENT));
 
         if(GameData.isPlayerPoisoned()) {
             drawCustomBar(posX, height - 56, 200 + offset, 10, (double) health / (double) (healthMax + absorption) * 100D, -1, -1,
-                    this.settings.getIntValue(Settings.color_poison), offsetColorPercent(this.settings.getIntValue(Settings.color_poison), OFFSET_PERCENT));
+                    snapshot.color_poison, offsetColorPercent(snapshot.color_poison, OFFSET_PERCENT));
         } else if(GameData.isPlayerWithering()) {
             drawCustomBar(posX, height - 56, 200 + offset, 10, (double) health / (double) (healthMax + absorption) * 100D, -1, -1,
-                    this.settings.getIntValue(Settings.color_wither), offsetColorPercent(this.settings.getIntValue(Settings.color_wither), OFFSET_PERCENT));
+                    snapshot.color_wither, offsetColorPercent(snapshot.color_wither, OFFSET_PERCENT));
         } else {
             drawCustomBar(posX, height - 56, 200 + offset, 10, (double) health / (double) (healthMax + absorption) * 100D, -1, -1,
-                    this.settings.getIntValue(Settings.color_health), offsetColorPercent(this.settings.getIntValue(Settings.color_health), OFFSET_PERCENT));
+                    snapshot.color_health, offsetColorPercent(snapshot.color_health, OFFSET_PERCENT));
         }
+        HudQuadBatch.flush();
 
-        String stringHealth = this.settings.getBoolValue(Settings.health_percentage) ? (int) Math.floor((double) health / (double) healthMax * 100) + "%"
+        String stringHealth = snapshot.health_percentage ? (int) Math.floor((double) health / (double) healthMax * 100) + "%"
                 : (health + absorption) + "/" + healthMax;
-        if(this.settings.getBoolValue(Settings.show_numbers_health))
+        if(snapshot.show_numbers_health)
             gui.drawCenteredString(GameData.getFontRenderer(), stringHealth, posX + 100 + (offset / 2), height - 55, -1);
     }
 }
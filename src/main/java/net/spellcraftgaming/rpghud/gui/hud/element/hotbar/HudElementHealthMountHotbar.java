@@ -5,7 +5,8 @@ import net.minecraft.entity.EntityLivingBase;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementHealthMountHotbar extends HudElement {
 
@@ -21,19 +22,21 @@ public class HudElementHealthMountHotbar extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
-        int height = scaledHeight + this.settings.getPositionValue(Settings.mount_health_position)[1];
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        int height = scaledHeight + snapshot.mount_health_position[1];
         EntityLivingBase mount = (EntityLivingBase) GameData.getMount();
         int health = (int) Math.ceil(mount.getHealth());
         int healthMax = (int) mount.getMaxHealth();
-        int posX = (this.settings.getBoolValue(Settings.render_player_face) ? 49 : 25) + this.settings.getPositionValue(Settings.mount_health_position)[0];
+        int posX = (snapshot.render_player_face ? 49 : 25) + snapshot.mount_health_position[0];
         int offset = GameData.getHotbarWidgetWidthOffset();
-        drawCustomBar(posX, height - 56, 200 + offset, 10, (double) health / (double) healthMax * 100.0D, -1, -1, this.settings.getIntValue(Settings.color_health),
-                offsetColorPercent(this.settings.getIntValue(Settings.color_health), OFFSET_PERCENT));
+        drawCustomBar(posX, height - 56, 200 + offset, 10, (double) health / (double) healthMax * 100.0D, -1, -1, snapshot.color_health,
+                offsetColorPercent(snapshot.color_health, OFFSET_PERCENT));
+        HudQuadBatch.flush();
 
-        String stringHealth = this.settings.getBoolValue(Settings.mount_health_percentage) ? (int) Math.floor((double) health / (double) healthMax * 100) + "%"
+        String stringHealth = snapshot.mount_health_percentage ? (int) Math.floor((double) health / (double) healthMax * 100) + "%"
                 : health + "/" + healthMax;
 
-        if(this.settings.getBoolValue(Settings.show_numbers_health))
+        if(snapshot.show_numbers_health)
             gui.drawCenteredString(GameData.getFontRenderer(), stringHealth, posX + 100 + offset, height - 55, -1);
     }
 
@@ -1,7 +1,6 @@
 package net.spellcraftgaming.rpghud.gui.hud.element.hotbar;
 
 import net.minecraft.client.gui.Gui;
-import net.minecraft.client.gui.ScaledResolution;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.client.renderer.RenderHelper;
 import net.minecraft.entity.player.EntityPlayer;
@@ -10,7 +9,8 @@ import net.minecraft.util.ResourceLocation;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudResolution;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementHotbarHotbar extends HudElement {
 
@@ -23,8 +23,9 @@ public class HudElementHotbarHotbar extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         if(this.mc.playerController.isSpectator()) {
-            this.mc.ingameGUI.getSpectatorGui().renderTooltip(new ScaledResolution(this.mc), partialTicks);
+            this.mc.ingameGUI.getSpectatorGui().renderTooltip(HudResolution.get(), partialTicks);
         } else if(this.mc.getRenderViewEntity() instanceof EntityPlayer) {
             GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
             this.mc.getTextureManager().bindTexture(WIDGETS_TEX_PATH);
@@ -33,8 +34,8 @@ public class HudElementHotbarHotbar extends HudElement {
             int i = scaledWidth / 2;
             float f = zLevel;
             zLevel = -90.0F;
-            int posX = (this.settings.getBoolValue(Settings.render_player_face) ? 49 : 25) + this.settings.getPositionValue(Settings.hotbar_position)[0];
-            int posY = this.settings.getPositionValue(Settings.hotbar_position)[1];
+            int posX = (snapshot.render_player_face ? 49 : 25) + snapshot.hotbar_position[0];
+            int posY = snapshot.hotbar_position[1];
             gui.drawTexturedModalRect(posX, scaledHeight - 47 + posY, 0, 0, 182, 22);
             gui.drawTexturedModalRect(posX + entityplayer.inventory.currentItem * 20, scaledHeight - 47 - 1 + posY, 0, 22, 24, 22);
 
@@ -60,7 +61,7 @@ public class HudElementHotbarHotbar extends HudElement {
 
                 if(f1 < 1.0F) {
                     int i2 = scaledHeight - 36 + posY;
-                    int j2 = i + 40 + this.settings.getPositionValue(Settings.hotbar_position)[0];
+                    int j2 = i + 40 + snapshot.hotbar_position[0];
 
                     GameData.bindIcons();
                     int k1 = (int) (f1 * 19.0F);
@@ -7,7 +7,7 @@ import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
 import net.spellcraftgaming.rpghud.main.ModRPGHud;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementWidgetHotbar extends HudElement {
 
@@ -22,15 +22,16 @@ public class HudElementWidgetHotbar extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         bind(INTERFACE);
-        int posX = this.settings.getPositionValue(Settings.widget_position)[0];
-        int posY = scaledHeight + this.settings.getPositionValue(Settings.widget_position)[1];
-        gui.drawTexturedModalRect(posX + (this.settings.getBoolValue(Settings.render_player_face) ? 50 : 26), posY - 16 - 52 + 9,
+        int posX = snapshot.widget_position[0];
+        int posY = scaledHeight + snapshot.widget_position[1];
+        gui.drawTexturedModalRect(posX + (snapshot.render_player_face ? 50 : 26), posY - 16 - 52 + 9,
                 Math.abs(GameData.getHotbarWidgetWidthOffset()), 172, 251 + GameData.getHotbarWidgetWidthOffset(), 48);
 
-        int facePosX = this.settings.getPositionValue(Settings.face_position)[0];
-        int facePosY = this.settings.getPositionValue(Settings.face_position)[1];
-        if(ModRPGHud.instance.settings.getBoolValue(Settings.render_player_face)) {
+        int facePosX = snapshot.face_position[0];
+        int facePosY = snapshot.face_position[1];
+        if(snapshot.render_player_face) {
             gui.drawTexturedModalRect(posX + facePosX, posY - 16 - 52 + 7 + facePosY, 164, 20, 50, 52);
             bind(getPlayerSkin(GameData.getPlayer()));
             GL11.glScaled(0.5D, 0.5D, 0.5D);
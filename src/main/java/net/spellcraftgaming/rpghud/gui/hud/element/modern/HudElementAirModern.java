@@ -5,7 +5,7 @@ import net.minecraft.client.renderer.GlStateManager;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementAirModern extends HudElement {
 
@@ -20,16 +20,17 @@ public class HudElementAirModern extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
-        int height = scaledHeight + this.settings.getPositionValue(Settings.air_position)[1];
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        int height = scaledHeight + snapshot.air_position[1];
         int airAmount = GameData.getPlayerAir();
         if(airAmount < 0) airAmount = 0;
-        int posX = this.settings.getPositionValue(Settings.air_position)[0];
+        int posX = snapshot.air_position[0];
         GlStateManager.disableLighting();
         drawRect(scaledWidth / 2 - 72 + posX, height - 78, 144, 2, 0xA0000000);
         drawRect(scaledWidth / 2 - 72 + posX, height - 70, 144, 2, 0xA0000000);
         drawRect(scaledWidth / 2 - 72 + posX, height - 76, 2, 6, 0xA0000000);
         drawRect(scaledWidth / 2 + 70 + posX, height - 76, 2, 6, 0xA0000000);
         drawRect(scaledWidth / 2 - 70 + posX, height - 76, 140, 6, 0x20FFFFFF);
-        drawRect(scaledWidth / 2 - 70 + posX, height - 76, (int) (140 * (airAmount / 300.0D)), 6, this.settings.getIntValue(Settings.color_air));
+        drawRect(scaledWidth / 2 - 70 + posX, height - 76, (int) (140 * (airAmount / 300.0D)), 6, snapshot.color_air);
     }
 }
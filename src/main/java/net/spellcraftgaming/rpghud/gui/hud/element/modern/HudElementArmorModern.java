@@ -5,7 +5,8 @@ import net.minecraftforge.client.GuiIngameForge;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementArmorModern extends HudElement {
 
@@ -20,13 +21,15 @@ public class HudElementArmorModern extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
-        int left = scaledWidth / 2 - 91 + this.settings.getPositionValue(Settings.armor_position)[0];
-        int top = scaledHeight - GuiIngameForge.left_height + 2 + this.settings.getPositionValue(Settings.armor_position)[1];
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        int left = scaledWidth / 2 - 91 + snapshot.armor_position[0];
+        int top = scaledHeight - GuiIngameForge.left_height + 2 + snapshot.armor_position[1];
 
         int level = GameData.getPlayerArmor();
         if(level > 0) {
             int width2 = 1 + 9 + 2 + GameData.getFontRenderer().getStringWidth(String.valueOf(level)) + 2;
             drawRect(left, top, width2, 10, 0xA0000000);
+            HudQuadBatch.flush();
             GameData.getFontRenderer().drawString(String.valueOf(level), left + 12, top + 2, -1);
             GameData.bindIcons();
             gui.drawTexturedModalRect(left + 1, top + 1, 34, 9, 9, 9);
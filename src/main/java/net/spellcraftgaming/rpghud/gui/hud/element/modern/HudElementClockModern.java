@@ -5,7 +5,9 @@ import org.lwjgl.opengl.GL11;
 import net.minecraft.client.gui.Gui;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.vanilla.HudElementClockVanilla;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.settings.ClockFormat;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementClockModern extends HudElementClockVanilla {
 
@@ -20,32 +22,34 @@ public class HudElementClockModern extends HudElementClockVanilla {
 
     @Override
     public boolean checkConditions() {
-        return this.settings.getBoolValue(Settings.enable_clock) && !this.mc.gameSettings.showDebugInfo
-                && (this.settings.getBoolValue(Settings.enable_immersive_clock) ? GameData.hasPlayerClock() : true);
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        return snapshot.enable_clock && !this.mc.gameSettings.showDebugInfo
+                && (snapshot.enable_immersive_clock ? GameData.hasPlayerClock() : true);
     }
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
-        int yOffset = (this.settings.getBoolValue(Settings.render_player_face) ? 0 : 8)
-                + ((this.settings.getBoolValue(Settings.show_numbers_health) && this.settings.getBoolValue(Settings.show_numbers_food)) ? 0 : 4)
-                + this.settings.getPositionValue(Settings.clock_position)[1];
-        int xOffset = this.settings.getPositionValue(Settings.clock_position)[0];
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        int yOffset = (snapshot.render_player_face ? 0 : 8)
+                + ((snapshot.show_numbers_health && snapshot.show_numbers_food) ? 0 : 4)
+                + snapshot.clock_position[1];
+        int xOffset = snapshot.clock_position[0];
         int clockColor = 0xFFFFFF;
-        if(this.settings.getBoolValue(Settings.enable_clock_color)) {
+        if(snapshot.enable_clock_color) {
             clockColor = getClockColor();
         }
-        if(this.settings.getStringValue(Settings.clock_time_format) == "time.24") {
+        if(snapshot.clock_time_format == ClockFormat.TIME_24) {
             drawRect(xOffset + 2, 23 + yOffset, 20, 6, 0xA0000000);
         } else {
             drawRect(xOffset + 2, 23 + yOffset, 23, 6, 0xA0000000);
         }
+        HudQuadBatch.flush();
         GL11.glScaled(0.5D, 0.5D, 0.5D);
 
-        if(this.settings.getStringValue(Settings.clock_time_format) == "time.24") {
-            gui.drawCenteredString(GameData.getFontRenderer(), getTime(), xOffset * 2 + 24, 48 + 2 * yOffset, clockColor);
-        } else {
-            gui.drawCenteredString(GameData.getFontRenderer(), getTime(), xOffset * 2 + 28, 48 + 2 * yOffset, clockColor);
-        }
+        ClockFormat format = snapshot.clock_time_format;
+        int minute = ClockFormat.getMinuteOfDay(GameData.getWorldTime());
+        int centerX = format == ClockFormat.TIME_24 ? xOffset * 2 + 24 : xOffset * 2 + 28;
+        GameData.getFontRenderer().drawStringWithShadow(format.getLabel(minute), centerX - format.getWidth(minute) / 2, 48 + 2 * yOffset, clockColor);
 
         GL11.glColor4f(1.0F, 1.0F, 1.0F, 1.0F);
 
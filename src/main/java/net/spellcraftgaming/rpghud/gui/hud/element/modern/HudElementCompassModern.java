@@ -5,7 +5,9 @@ import net.minecraft.client.renderer.GlStateManager;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudCompassStrip;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementCompassModern extends HudElement {
 
@@ -15,68 +17,34 @@ public class HudElementCompassModern extends HudElement {
 
     @Override
     public boolean checkConditions() {
-        return this.settings.getBoolValue(Settings.enable_compass) && !this.mc.gameSettings.showDebugInfo
-                && (this.settings.getBoolValue(Settings.enable_immersive_compass) ? GameData.hasPlayerCompass() : true);
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        return snapshot.enable_compass && !this.mc.gameSettings.showDebugInfo
+                && (snapshot.enable_immersive_compass ? GameData.hasPlayerCompass() : true);
     }
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
-        int width = (scaledWidth / 2) + this.settings.getPositionValue(Settings.compass_position)[0];
-        int posY = this.settings.getPositionValue(Settings.compass_position)[1];
-        int swapSides = this.settings.getBoolValue(Settings.invert_compass) ? -1 : 1;
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        int width = (scaledWidth / 2) + snapshot.compass_position[0];
+        int posY = snapshot.compass_position[1];
 
-        int rotation = Math.round(((GameData.getRotationYaw() % 360) / 360) * 200);
+        double rotation = ((GameData.getRotationYaw() % 360) / 360) * HudCompassStrip.TURN;
         if(rotation < 0)
-            rotation = 200 + rotation;
+            rotation = HudCompassStrip.TURN + rotation;
         drawRect(width - 50, posY + 2, 100, 6, 0xAA000000);
+        HudQuadBatch.flush();
 
         gui.drawTexturedModalRect(width - 56, 0, 34, 234, 112, 9);
-        if(rotation > 0 && rotation <= 100) {
-            gui.drawCenteredString(GameData.getFontRenderer(), "W", width + (50 * swapSides) - (rotation * swapSides), posY + 1, -1);
-        }
-
-        if(rotation > 25 && rotation <= 125) {
-            gui.drawCenteredString(GameData.getFontRenderer(), ".", width + (75 * swapSides) - (rotation * swapSides), posY - 2, -1);
-        }
-
-        if(rotation > 50 && rotation <= 150) {
-            gui.drawCenteredString(GameData.getFontRenderer(), "N", width + (100 * swapSides) - (rotation * swapSides), posY + 1,
-                    this.settings.getBoolValue(Settings.enable_compass_color) ? 0xE60909 : -1);
-        }
-
-        if(rotation > 75 && rotation <= 175) {
-            gui.drawCenteredString(GameData.getFontRenderer(), ".", width + (125 * swapSides) - (rotation * swapSides), posY - 2, -1);
-        }
-
-        if(rotation > 100 && rotation <= 200) {
-            gui.drawCenteredString(GameData.getFontRenderer(), "E", width + (150 * swapSides) - (rotation * swapSides), posY + 1, -1);
-        }
-
-        if(rotation >= 125) {
-            gui.drawCenteredString(GameData.getFontRenderer(), ".", width + (175 * swapSides) - (rotation * swapSides), posY - 2, -1);
-        } else if(rotation <= 25) {
-            gui.drawCenteredString(GameData.getFontRenderer(), ".", width - (25 * swapSides) - (rotation * swapSides), posY - 2, -1);
-        }
-
-        if(rotation >= 150) {
-            gui.drawCenteredString(GameData.getFontRenderer(), "S", width + (200 * swapSides) - (rotation * swapSides), posY + 1, -1);
-        } else if(rotation <= 50) {
-            gui.drawCenteredString(GameData.getFontRenderer(), "S", width - (rotation * swapSides), posY + 1, -1);
-        }
-
-        if(rotation >= 175) {
-            gui.drawCenteredString(GameData.getFontRenderer(), ".", width + (225 * swapSides) - (rotation * swapSides), posY - 2, -1);
-        } else if(rotation <= 75) {
-            gui.drawCenteredString(GameData.getFontRenderer(), ".", width + (25 * swapSides) - (rotation * swapSides), posY - 2, -1);
-        }
+        HudCompassStrip.draw(width, posY, rotation, snapshot.invert_compass, snapshot.enable_compass_color);
 
-        if(this.settings.getBoolValue(Settings.enable_compass_coordinates)) {
+        if(snapshot.enable_compass_coordinates) {
             int[] pos = GameData.getPlayerPos();
             drawRect(width - 50, posY + 11, GameData.getFontRenderer().getStringWidth(String.valueOf(pos[0])) / 2 + 4, 6, 0xA0000000);
             drawRect((int) (width - ((float) GameData.getFontRenderer().getStringWidth(String.valueOf(pos[1])) / 4) - 2), posY + 11,
                     GameData.getFontRenderer().getStringWidth(String.valueOf(pos[1])) / 2 + 4, 6, 0xA0000000);
             drawRect((width + 48) - (GameData.getFontRenderer().getStringWidth(String.valueOf(pos[2])) / 2) - 2, posY + 11,
                     GameData.getFontRenderer().getStringWidth(String.valueOf(pos[2])) / 2 + 4, 6, 0xA0000000);
+            HudQuadBatch.flush();
 
             GlStateManager.scale(0.5D, 0.5D, 0.5D);
             gui.drawString(GameData.getFontRenderer(), String.valueOf(pos[0]), (width - 48) * 2, (posY + 12) * 2, -1);
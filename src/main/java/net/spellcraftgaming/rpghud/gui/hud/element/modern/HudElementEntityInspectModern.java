@@ -5,16 +5,20 @@ import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.entity.EntityLiving;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.vanilla.HudElementEntityInspectVanilla;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.model.FocusModel;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudPortraitCache;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementEntityInspectModern extends HudElementEntityInspectVanilla {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
-        EntityLiving focused = GameData.getFocusedEntity(GameData.getPlayer());
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        EntityLiving focused = FocusModel.getFocusedEntity();
         if(focused != null) {
-            int posX = (scaledWidth / 2) + this.settings.getPositionValue(Settings.inspector_position)[0];
-            int posY = this.settings.getPositionValue(Settings.inspector_position)[1];
+            int posX = (scaledWidth / 2) + snapshot.inspector_position[0];
+            int posY = snapshot.inspector_position[1];
 
             drawRect(posX - 62, 20 + posY, 32, 32, 0xA0000000);
             drawRect(posX - 60, 22 + posY, 28, 28, 0x20FFFFFF);
@@ -23,7 +27,8 @@ public class HudElementEntityInspectModern extends HudElementEntityInspectVanill
             drawTetragon(posX - 30, posX - 30, 33 + posY, 33 + posY, 84, 74, 6, 6, 0x20FFFFFF);
 
             drawTetragon(posX - 30, posX - 30, 33 + posY, 33 + posY, (int) (84 * ((double) focused.getHealth() / (double) focused.getMaxHealth())),
-                    (int) (84 * ((double) focused.getHealth() / (double) focused.getMaxHealth())) - 10, 6, 6, this.settings.getIntValue(Settings.color_health));
+                    (int) (84 * ((double) focused.getHealth() / (double) focused.getMaxHealth())) - 10, 6, 6, snapshot.color_health);
+            HudQuadBatch.flush();
 
             String stringHealth = ((double) Math.round(focused.getHealth() * 10)) / 10 + "/" + ((double) Math.round(focused.getMaxHealth() * 10)) / 10;
 
@@ -35,14 +40,15 @@ public class HudElementEntityInspectModern extends HudElementEntityInspectVanill
             int y = 23 + posY;
             GameData.getFontRenderer().drawString(focused.getName(), x, y, -1);
 
-            drawEntityOnScreen(posX - 60 + 14, 22 + 25 + posY, focused);
+            HudPortraitCache.draw(posX - 60 + 14, 22 + 25 + posY, focused, snapshot.inspector_portrait_interval);
             
-            if(settings.getBoolValue(Settings.show_entity_armor)) {
+            if(snapshot.show_entity_armor) {
                 int armor = focused.getTotalArmorValue();
                 if(armor > 0) {
                     this.mc.getTextureManager().bindTexture(GameData.icons());
                     String value = String.valueOf(armor);
                     drawRect(posX - 30, posY + 42, 8 + (GameData.getFontRenderer().getStringWidth(value) / 2), 6, 0xA0000000);
+                    HudQuadBatch.flush();
                     GlStateManager.scale(0.5, 0.5, 0.5);
                     gui.drawTexturedModalRect((posX - 30) * 2, (posY + 42) * 2, 34, 9, 9, 9);
                     GameData.getFontRenderer().drawString(value, (posX - 24) * 2, (posY + 42) * 2 + 1, -1);
@@ -5,7 +5,8 @@ import net.minecraft.client.renderer.GlStateManager;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementExperienceModern extends HudElement {
 
@@ -20,21 +21,23 @@ public class HudElementExperienceModern extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         int exp = GameData.getPlayerXP();
         double full = ((double) (scaledWidth - 2)) / GameData.getPlayerXPCap();
-        int posX = this.settings.getPositionValue(Settings.experience_position)[0];
-        int posY = this.settings.getPositionValue(Settings.experience_position)[1];
+        int posX = snapshot.experience_position[0];
+        int posY = snapshot.experience_position[1];
 
         drawRect(posX, scaledHeight - 7 + posY, scaledWidth, 7, 0xA0000000);
-        drawRect(1 + posX, scaledHeight - 6 + posY, (int) (exp * full), 4, this.settings.getIntValue(Settings.color_experience));
+        drawRect(1 + posX, scaledHeight - 6 + posY, (int) (exp * full), 4, snapshot.color_experience);
 
-        String stringExp = this.settings.getBoolValue(Settings.experience_percentage)
+        String stringExp = snapshot.experience_percentage
                 ? (int) Math.floor((double) exp / (double) GameData.getPlayerXPCap() * 100) + "%"
                 : exp + "/" + GameData.getPlayerXPCap();
 
-        if(this.settings.getBoolValue(Settings.show_numbers_experience)) {
+        if(snapshot.show_numbers_experience) {
             int width2 = GameData.getFontRenderer().getStringWidth(stringExp) / 2;
             drawRect(1 + posX, scaledHeight - 15 + posY, width2 + 4, 8, 0xA0000000);
+            HudQuadBatch.flush();
             GlStateManager.scale(0.5D, 0.5D, 0.5D);
             gui.drawCenteredString(GameData.getFontRenderer(), stringExp, 6 + width2 + posX * 2, (scaledHeight - 12) * 2 - 1 + posY * 2, -1);
             GlStateManager.scale(2.0D, 2.0D, 2.0D);
@@ -1,6 +1,6 @@
 package net.spellcraftgaming.rpghud.gui.hud.element.modern;
 
-import net.minecraft.client.Minecraft;
+import org.apache.logging.log4j.Level;
 import org.lwjgl.opengl.GL11;
 
 import net.minecraft.client.gui.Gui;
@@ -10,11 +10,11 @@ import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.HudModern;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
-
-import net.minecraft.client.gui.ScaledResolution;
-import scala.collection.parallel.ParIterableLike;
-
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudResolution;
+import net.spellcraftgaming.rpghud.main.HudLogger;
+import net.spellcraftgaming.rpghud.main.HudLogger.Category;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementFoodModern extends HudElement {
 
@@ -30,10 +30,11 @@ public class HudElementFoodModern extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         int stamina = GameData.getPlayerFood();
         int staminaMax = GameData.getPlayerMaxFood();
         int xOffset = ((HudModern) this.rpgHud.huds.get("modern")).getPosX();
-        String staminaString = this.settings.getBoolValue(Settings.hunger_percentage) ? (int) Math.floor((double) stamina / (double) staminaMax * 100) + "%"
+        String staminaString = snapshot.hunger_percentage ? (int) Math.floor((double) stamina / (double) staminaMax * 100) + "%"
                 : stamina + "/" + staminaMax;
         int width = GameData.getFontRenderer().getStringWidth(staminaString) / 2 + 4;
         if(width < xOffset)
@@ -41,28 +42,30 @@ public class HudElementFoodModern extends HudElement {
         else
             ((HudModern) this.rpgHud.huds.get("modern")).setPosX(width);
 
-        ScaledResolution res = new ScaledResolution(Minecraft.getMinecraft());
         //int anchorscaleX =scaledWidth/2 -100;
         int anchorscaleX =scaledWidth/2;
-        System.out.println(scaledWidth);
-        System.out.println(res.getScaleFactor());
+        if(HudLogger.isEnabled(Category.RENDER, Level.DEBUG)) {
+            HudLogger.logOnChange(Category.RENDER, Level.DEBUG, "food_modern_scaled_width", scaledWidth);
+            HudLogger.logOnChange(Category.RENDER, Level.DEBUG, "food_modern_scale_factor", HudResolution.get().getScaleFactor());
+        }
 
         int anchorscaleY = scaledHeight;//scaledHeight/2 + 50;
 
-        int posX = (this.settings.getBoolValue(Settings.render_player_face) ? 24 : 2)
-                + ((this.settings.getBoolValue(Settings.show_numbers_health) && this.settings.getBoolValue(Settings.show_numbers_food)) ? xOffset : 0)
-                + this.settings.getPositionValue(Settings.hunger_position)[0]
+        int posX = (snapshot.render_player_face ? 24 : 2)
+                + ((snapshot.show_numbers_health && snapshot.show_numbers_food) ? xOffset : 0)
+                + snapshot.hunger_position[0]
                 + anchorscaleX;
 
 
-        int textPosX = this.settings.getPositionValue(Settings.hunger_position)[0] + anchorscaleX;
-        int posY = this.settings.getPositionValue(Settings.hunger_position)[1]+anchorscaleY;
+        int textPosX = snapshot.hunger_position[0] + anchorscaleX;
+        int posY = snapshot.hunger_position[1]+anchorscaleY;
 
-        if(this.settings.getBoolValue(Settings.show_numbers_health) && this.settings.getBoolValue(Settings.show_numbers_food)) {
-            drawRect(textPosX + (this.settings.getBoolValue(Settings.render_player_face) ? 23 : 2), posY + 12, width, 8, 0xA0000000);
+        if(snapshot.show_numbers_health && snapshot.show_numbers_food) {
+            drawRect(textPosX + (snapshot.render_player_face ? 23 : 2), posY + 12, width, 8, 0xA0000000);
+            HudQuadBatch.flush();
             GL11.glScaled(0.5D, 0.5D, 0.5D);
             gui.drawCenteredString(GameData.getFontRenderer(), staminaString,
-                    textPosX * 2 + (this.settings.getBoolValue(Settings.render_player_face) ? 42 : 0) + width + 4, posY * 2 + 28, -1);
+                    textPosX * 2 + (snapshot.render_player_face ? 42 : 0) + width + 4, posY * 2 + 28, -1);
             GL11.glScaled(2.0D, 2.0D, 2.0D);
         }
 
@@ -72,7 +75,7 @@ public class HudElementFoodModern extends HudElement {
         ItemStack itemMain = GameData.getMainhand();
         ItemStack itemSec = GameData.getOffhand();
 
-        if(GameData.doesPlayerNeedFood() && this.settings.getBoolValue(Settings.show_hunger_preview)) {
+        if(GameData.doesPlayerNeedFood() && snapshot.show_hunger_preview) {
             float value = 0;
             if(itemMain != GameData.nullStack() && itemMain.getItem() instanceof ItemFood) {
                 value = ((ItemFood) itemMain.getItem()).getHealAmount(itemMain);
@@ -84,16 +87,16 @@ public class HudElementFoodModern extends HudElement {
                 if(bonusHunger > staminaMax)
                     bonusHunger = staminaMax;
                 drawTetragon(posX + 2, posX + 2, 13 + posY, 13 + posY, (int) (64 * ((double) bonusHunger / (double) staminaMax)),
-                        (int) (63 * ((double) bonusHunger / (double) 20)) - 10, 6, 6, offsetColor(this.settings.getIntValue(Settings.color_food), OFFSET_PREVIEW));
+                        (int) (63 * ((double) bonusHunger / (double) 20)) - 10, 6, 6, offsetColor(snapshot.color_food, OFFSET_PREVIEW));
             }
         }
 
         if(GameData.isPlayerHungered()) {
             drawTetragon(posX + 2, posX + 2, 13 + posY, 13 + posY, (int) (64 * ((double) stamina / (double) staminaMax)),
-                    (int) (64 * ((double) stamina / (double) 20)) - 10, 6, 6, this.settings.getIntValue(Settings.color_hunger));
+                    (int) (64 * ((double) stamina / (double) 20)) - 10, 6, 6, snapshot.color_hunger);
         } else {
             drawTetragon(posX + 2, posX + 2, 13 + posY, 13 + posY, (int) (64 * ((double) stamina / (double) staminaMax)),
-                    (int) (64 * ((double) stamina / (double) 20)) - 10, 6, 6, this.settings.getIntValue(Settings.color_food));
+                    (int) (64 * ((double) stamina / (double) 20)) - 10, 6, 6, snapshot.color_food);
         }
     }
 
@@ -7,7 +7,8 @@ import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.HudModern;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementHealthModern extends HudElement {
 
@@ -23,13 +24,14 @@ public class HudElementHealthModern extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         int health = GameData.getPlayerHealth();
         int healthMax = GameData.getPlayerMaxHealth();
         int absorption = GameData.getPlayerAbsorption();
 
         int xOffset = ((HudModern) this.rpgHud.huds.get("modern")).getPosX();
 
-        String stringHealth = this.settings.getBoolValue(Settings.health_percentage) ? (int) Math.floor((double) health / (double) healthMax * 100) + "%"
+        String stringHealth = snapshot.health_percentage ? (int) Math.floor((double) health / (double) healthMax * 100) + "%"
                 : (health + absorption) + "/" + healthMax;
         int width = GameData.getFontRenderer().getStringWidth(stringHealth) / 2 + 4;
         if(width < xOffset)
@@ -41,17 +43,18 @@ public class HudElementHealthModern extends HudElement {
         int xAnchor = scaledWidth/2;
         int yAnchor = scaledHeight;
 
-        int posX = (this.settings.getBoolValue(Settings.render_player_face) ? 24 : 2)
-                + ((this.settings.getBoolValue(Settings.show_numbers_health) && this.settings.getBoolValue(Settings.show_numbers_food)) ? xOffset : 0)
-                + this.settings.getPositionValue(Settings.health_position)[0]+xAnchor;
-        int textPosX = this.settings.getPositionValue(Settings.health_position)[0]+xAnchor;
-        int posY = this.settings.getPositionValue(Settings.health_position)[1]+yAnchor;
+        int posX = (snapshot.render_player_face ? 24 : 2)
+                + ((snapshot.show_numbers_health && snapshot.show_numbers_food) ? xOffset : 0)
+                + snapshot.health_position[0]+xAnchor;
+        int textPosX = snapshot.health_position[0]+xAnchor;
+        int posY = snapshot.health_position[1]+yAnchor;
 
-        if(this.settings.getBoolValue(Settings.show_numbers_health) && this.settings.getBoolValue(Settings.show_numbers_food)) {
-            drawRect(textPosX + (this.settings.getBoolValue(Settings.render_player_face) ? 23 : 2), posY + 4, width, 8, 0xA0000000);
+        if(snapshot.show_numbers_health && snapshot.show_numbers_food) {
+            drawRect(textPosX + (snapshot.render_player_face ? 23 : 2), posY + 4, width, 8, 0xA0000000);
+            HudQuadBatch.flush();
             GL11.glScaled(0.5D, 0.5D, 0.5D);
             gui.drawCenteredString(GameData.getFontRenderer(), stringHealth,
-                    textPosX * 2 + (this.settings.getBoolValue(Settings.render_player_face) ? 42 : 0) + width + 4, posY * 2 + 12, -1);
+                    textPosX * 2 + (snapshot.render_player_face ? 42 : 0) + width + 4, posY * 2 + 12, -1);
             GL11.glScaled(2.0D, 2.0D, 2.0D);
         }
 
@@ -61,16 +64,16 @@ public class HudElementHealthModern extends HudElement {
         if(absorption > 1)
             drawTetragon(posX + 2, posX + 2, 5 + posY, 5 + posY, (int) (89 * ((double) (health + absorption) / (double) (healthMax + absorption))),
                     (int) (89 * ((double) (health + absorption) / (double) (healthMax + absorption))) - 10, 6, 6,
-                    this.settings.getIntValue(Settings.color_absorption));
+                    snapshot.color_absorption);
         if(GameData.isPlayerPoisoned()) {
             drawTetragon(posX + 2, posX + 2, 5 + posY, 5 + posY, (int) (89 * ((double) health / (double) (healthMax + absorption))),
-                    (int) (89 * ((double) health / (double) (healthMax + absorption))) - 10, 6, 6, this.settings.getIntValue(Settings.color_poison));
+                    (int) (89 * ((double) health / (double) (healthMax + absorption))) - 10, 6, 6, snapshot.color_poison);
         } else if(GameData.isPlayerWithering()) {
             drawTetragon(posX + 2, posX + 2, 5 + posY, 5 + posY, (int) (89 * ((double) health / (double) (healthMax + absorption))),
-                    (int) (89 * ((double) health / (double) (healthMax + absorption))) - 10, 6, 6, this.settings.getIntValue(Settings.color_wither));
+                    (int) (89 * ((double) health / (double) (healthMax + absorption))) - 10, 6, 6, snapshot.color_wither);
         } else {
             drawTetragon(posX + 2, posX + 2, 5 + posY, 5 + posY, (int) (89 * ((double) health / (double) (healthMax + absorption))),
-                    (int) (89 * ((double) health / (double) (healthMax + absorption))) - 10, 6, 6, this.settings.getIntValue(Settings.color_health));
+                    (int) (89 * ((double) health / (double) (healthMax + absorption))) - 10, 6, 6, snapshot.color_health);
         }
     }
 
@@ -8,7 +8,8 @@ import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.HudModern;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementHealthMountModern extends HudElement {
 
@@ -24,20 +25,22 @@ public class HudElementHealthMountModern extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         EntityLivingBase mount = (EntityLivingBase) GameData.getMount();
         int health = (int) Math.ceil(mount.getHealth());
         int healthMax = (int) mount.getMaxHealth();
         int xOffset = ((HudModern) this.rpgHud.huds.get("modern")).getPosX();
 
-        String stringHealth = this.settings.getBoolValue(Settings.mount_health_percentage) ? (int) Math.floor((double) health / (double) healthMax * 100) + "%"
+        String stringHealth = snapshot.mount_health_percentage ? (int) Math.floor((double) health / (double) healthMax * 100) + "%"
                 : health + "/" + healthMax;
 
-        int posX = (this.settings.getBoolValue(Settings.render_player_face) ? 26 : 4) + (this.settings.getBoolValue(Settings.show_numbers_health) ? xOffset - 2 : -2)
-                + this.settings.getPositionValue(Settings.mount_health_position)[0];
-        int posY = this.settings.getPositionValue(Settings.mount_health_position)[1];
-        if(this.settings.getBoolValue(Settings.show_numbers_health)) {
+        int posX = (snapshot.render_player_face ? 26 : 4) + (snapshot.show_numbers_health ? xOffset - 2 : -2)
+                + snapshot.mount_health_position[0];
+        int posY = snapshot.mount_health_position[1];
+        if(snapshot.show_numbers_health) {
             int width2 = GameData.getFontRenderer().getStringWidth(stringHealth) / 2;
             drawRect(posX, 24 + posY, width2 + 4, 5, 0xA0000000);
+            HudQuadBatch.flush();
             GL11.glScaled(0.5D, 0.5D, 0.5D);
             gui.drawString(GameData.getFontRenderer(), stringHealth, posX * 2 + 4, 48 + posY * 2, -1);
             GL11.glScaled(2.0D, 2.0D, 2.0D);
@@ -45,7 +48,7 @@ public class HudElementHealthMountModern extends HudElement {
 
         drawTetragon(posX, posX, 21 + posY, 21 + posY, 58, 54, 3, 3, 0xA0000000);
         drawTetragon(posX + 2, posX + 2, 21 + posY, 21 + posY, (int) (((double) health / (double) healthMax) * 53),
-                (int) (((double) health / (double) healthMax) * 53 - 2), 1, 1, this.settings.getIntValue(Settings.color_health));
+                (int) (((double) health / (double) healthMax) * 53 - 2), 1, 1, snapshot.color_health);
 
     }
 
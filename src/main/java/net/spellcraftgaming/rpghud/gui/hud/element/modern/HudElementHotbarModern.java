@@ -1,7 +1,6 @@
 package net.spellcraftgaming.rpghud.gui.hud.element.modern;
 
 import net.minecraft.client.gui.Gui;
-import net.minecraft.client.gui.ScaledResolution;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.client.renderer.RenderHelper;
 import net.minecraft.entity.player.EntityPlayer;
@@ -10,7 +9,9 @@ import net.minecraft.util.ResourceLocation;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudResolution;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementHotbarModern extends HudElement {
 
@@ -27,15 +28,16 @@ public class HudElementHotbarModern extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         if(this.mc.playerController.isSpectator()) {
-            this.mc.ingameGUI.getSpectatorGui().renderTooltip(new ScaledResolution(this.mc), partialTicks);
+            this.mc.ingameGUI.getSpectatorGui().renderTooltip(HudResolution.get(), partialTicks);
         } else if(this.mc.getRenderViewEntity() instanceof EntityPlayer) {
             GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
             this.mc.getTextureManager().bindTexture(WIDGETS_TEX_PATH);
             EntityPlayer entityplayer = (EntityPlayer) this.mc.getRenderViewEntity();
             ItemStack itemstack = GameData.getOffhand();
-            int posX = this.settings.getPositionValue(Settings.hotbar_position)[0];
-            int posY = this.settings.getPositionValue(Settings.hotbar_position)[1];
+            int posX = snapshot.hotbar_position[0];
+            int posY = snapshot.hotbar_position[1];
             int enumhandside = GameData.getOffhandSide();
             int height = scaledHeight + posY;
             int i = (scaledWidth / 2) + posX;
@@ -51,7 +53,6 @@ public class HudElementHotbarModern extends HudElement {
                 }
             }
             drawRect(scaledWidth / 2 - 91 + 2 + (entityplayer.inventory.currentItem * 20) + posX, height - 22 - 3, 18, 18, 0x40FFFFFF);
-            GlStateManager.enableAlpha();
             if(itemstack != GameData.nullStack()) {
                 if(enumhandside == 0) {
                     drawRect(scaledWidth / 2 - 91 - 24 + posX, height - 22 - 5, 22, 2, 0xA0000000);
@@ -69,6 +70,8 @@ public class HudElementHotbarModern extends HudElement {
                         drawRect(scaledWidth / 2 - 91 - 24 + 209 + posX, height - 7, 22, 2, 0xA0000000);
                 }
             }
+            HudQuadBatch.flush();
+            GlStateManager.enableAlpha();
 
             zLevel = f;
             GlStateManager.enableRescaleNormal();
@@ -4,7 +4,7 @@ import net.minecraft.client.gui.Gui;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementJumpBarModern extends HudElement {
 
@@ -14,21 +14,22 @@ public class HudElementJumpBarModern extends HudElement {
 
     @Override
     public boolean checkConditions() {
-        return GameData.isRidingLivingMount() && (this.settings.getBoolValue(Settings.limit_jump_bar) ? GameData.getHorseJumpPower() > 0F : true);
+        return GameData.isRidingLivingMount() && (this.settings.getSnapshot().limit_jump_bar ? GameData.getHorseJumpPower() > 0F : true);
     }
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
-        int height = scaledHeight + this.settings.getPositionValue(Settings.jump_bar_position)[1];
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        int height = scaledHeight + snapshot.jump_bar_position[1];
         float jumpPower = GameData.getHorseJumpPower();
         int value = (int) (jumpPower * 100.0F);
-        int posX = this.settings.getPositionValue(Settings.jump_bar_position)[0];
+        int posX = snapshot.jump_bar_position[0];
         drawRect(scaledWidth / 2 - 72 + posX, height - 78, 144, 2, 0xA0000000);
         drawRect(scaledWidth / 2 - 72 + posX, height - 70, 144, 2, 0xA0000000);
         drawRect(scaledWidth / 2 - 72 + posX, height - 76, 2, 6, 0xA0000000);
         drawRect(scaledWidth / 2 + 70 + posX, height - 76, 2, 6, 0xA0000000);
         drawRect(scaledWidth / 2 - 70 + posX, height - 76, 140, 6, 0x20FFFFFF);
-        drawRect(scaledWidth / 2 - 70 + posX, height - 76, (int) (140 * (value / 100.0D)), 6, this.settings.getIntValue(Settings.color_jump_bar));
+        drawRect(scaledWidth / 2 - 70 + posX, height - 76, (int) (140 * (value / 100.0D)), 6, snapshot.color_jump_bar);
     }
 
 }
@@ -8,7 +8,9 @@ import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.HudModern;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.settings.ClockFormat;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementLevelModern extends HudElement {
 
@@ -24,6 +26,7 @@ public class HudElementLevelModern extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         String level = String.valueOf(GameData.getPlayerXPLevel());
 
         int xOffset = ((HudModern) this.rpgHud.huds.get("modern")).getPosX();
@@ -41,21 +44,22 @@ public class HudElementLevelModern extends HudElement {
         GlStateManager.enableAlpha();
         GlStateManager.disableBlend();
 
-        int posX = (this.settings.getBoolValue(Settings.render_player_face) ? 23 : 2) + this.settings.getPositionValue(Settings.level_position)[0];
-        int posY = ((this.settings.getBoolValue(Settings.show_numbers_health) && this.settings.getBoolValue(Settings.show_numbers_food)) ? 22 : 26)
-                + this.settings.getPositionValue(Settings.level_position)[1];
+        int posX = (snapshot.render_player_face ? 23 : 2) + snapshot.level_position[0];
+        int posY = ((snapshot.show_numbers_health && snapshot.show_numbers_food) ? 22 : 26)
+                + snapshot.level_position[1];
 
-        if(this.settings.getStringValue(Settings.clock_time_format) == "time.24" || !this.settings.getBoolValue(Settings.render_player_face)) {
+        if(snapshot.clock_time_format == ClockFormat.TIME_24 || !snapshot.render_player_face) {
             drawRect(posX, posY, width, 7, 0xA0000000);
         } else {
-            drawRect(26 + this.settings.getPositionValue(Settings.level_position)[0], posY, width, 7, 0xA0000000);
+            drawRect(26 + snapshot.level_position[0], posY, width, 7, 0xA0000000);
         }
+        HudQuadBatch.flush();
         GL11.glScaled(0.5D, 0.5D, 0.5D);
 
-        if(this.settings.getStringValue(Settings.clock_time_format) == "time.24" || !this.settings.getBoolValue(Settings.render_player_face)) {
+        if(snapshot.clock_time_format == ClockFormat.TIME_24 || !snapshot.render_player_face) {
             gui.drawCenteredString(GameData.getFontRenderer(), level, (posX * 2) + width, posY * 2 + 3, 0x80FF20);
         } else {
-            gui.drawCenteredString(GameData.getFontRenderer(), level, 70 + this.settings.getPositionValue(Settings.level_position)[0] * 2, posY * 2 + 3, 0x80FF20);
+            gui.drawCenteredString(GameData.getFontRenderer(), level, 70 + snapshot.level_position[0] * 2, posY * 2 + 3, 0x80FF20);
         }
         GL11.glScaled(2.0D, 2.0D, 2.0D);
         GlStateManager.enableBlend();
@@ -7,8 +7,9 @@ import net.minecraft.client.renderer.GlStateManager;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
 import net.spellcraftgaming.rpghud.main.ModRPGHud;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementWidgetModern extends HudElement {
 
@@ -18,14 +19,16 @@ public class HudElementWidgetModern extends HudElement {
 
     @Override
     public boolean checkConditions() {
-        return GameData.shouldDrawHUD() && ModRPGHud.instance.settings.getBoolValue(Settings.render_player_face);
+        return GameData.shouldDrawHUD() && ModRPGHud.instance.settings.getSnapshot().render_player_face;
     }
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
-        int posX = this.settings.getPositionValue(Settings.face_position)[0];
-        int posY = this.settings.getPositionValue(Settings.face_position)[1];
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        int posX = snapshot.face_position[0];
+        int posY = snapshot.face_position[1];
         drawRect(posX + 2, posY + 2, 20, 20, 0xA0000000);
+        HudQuadBatch.flush();
         GL11.glColor4f(1.0F, 1.0F, 1.0F, 1.0F);
         GL11.glDisable(GL11.GL_LIGHTING);
         GL11.glEnable(GL11.GL_BLEND);
@@ -5,7 +5,7 @@ import net.minecraft.client.renderer.GlStateManager;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementExperienceTexture extends HudElement {
 
@@ -21,19 +21,20 @@ public class HudElementExperienceTexture extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         bind(INTERFACE);
         GlStateManager.color(1f, 1f, 1f);
         int exp = GameData.getPlayerXP();
-        int posX = (this.settings.getBoolValue(Settings.render_player_face) ? 49 : 25) + this.settings.getPositionValue(Settings.experience_position)[0];
-        int posY = (this.settings.getBoolValue(Settings.render_player_face) ? 35 : 31) + this.settings.getPositionValue(Settings.experience_position)[1];
+        int posX = (snapshot.render_player_face ? 49 : 25) + snapshot.experience_position[0];
+        int posY = (snapshot.render_player_face ? 35 : 31) + snapshot.experience_position[1];
 
         gui.drawTexturedModalRect(posX, posY, 0, 132, (int) (88.0D * (exp / (double) GameData.getPlayerXPCap())), 8);
 
-        String stringExp = this.settings.getBoolValue(Settings.experience_percentage)
+        String stringExp = snapshot.experience_percentage
                 ? (int) Math.floor((double) exp / (double) GameData.getPlayerXPCap() * 100) + "%"
                 : exp + "/" + GameData.getPlayerXPCap();
 
-        if(this.settings.getBoolValue(Settings.show_numbers_experience)) {
+        if(snapshot.show_numbers_experience) {
             GlStateManager.scale(0.5D, 0.5D, 0.5D);
             gui.drawCenteredString(GameData.getFontRenderer(), stringExp, posX * 2 + 88, posY * 2 + 4, -1);
             GlStateManager.scale(2.0D, 2.0D, 2.0D);
@@ -7,7 +7,7 @@ import net.minecraft.item.ItemStack;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementFoodTexture extends HudElement {
 
@@ -23,16 +23,17 @@ public class HudElementFoodTexture extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         bind(INTERFACE);
         GlStateManager.color(1f, 1f, 1f);
         int stamina = GameData.getPlayerFood();
         int staminaMax = GameData.getPlayerMaxFood();
-        int posX = (this.settings.getBoolValue(Settings.render_player_face) ? 49 : 25) + this.settings.getPositionValue(Settings.hunger_position)[0];
-        int posY = (this.settings.getBoolValue(Settings.render_player_face) ? 22 : 18) + this.settings.getPositionValue(Settings.hunger_position)[1];
+        int posX = (snapshot.render_player_face ? 49 : 25) + snapshot.hunger_position[0];
+        int posY = (snapshot.render_player_face ? 22 : 18) + snapshot.hunger_position[1];
         ItemStack itemMain = GameData.getMainhand();
         ItemStack itemSec = GameData.getOffhand();
 
-        if(GameData.doesPlayerNeedFood() && this.settings.getBoolValue(Settings.show_hunger_preview)) {
+        if(GameData.doesPlayerNeedFood() && snapshot.show_hunger_preview) {
             float value = 0;
             if(itemMain != GameData.nullStack() && itemMain.getItem() instanceof ItemFood) {
                 value = ((ItemFood) itemMain.getItem()).getHealAmount(itemMain);
@@ -53,9 +54,9 @@ public class HudElementFoodTexture extends HudElement {
             gui.drawTexturedModalRect(posX, posY, 110, 100, (int) (110.0D * (stamina / (double) staminaMax)), 12);
         }
 
-        String staminaString = this.settings.getBoolValue(Settings.hunger_percentage) ? (int) Math.floor((double) stamina / (double) staminaMax * 100) + "%"
+        String staminaString = snapshot.hunger_percentage ? (int) Math.floor((double) stamina / (double) staminaMax * 100) + "%"
                 : stamina + "/" + staminaMax;
-        if(this.settings.getBoolValue(Settings.show_numbers_food))
+        if(snapshot.show_numbers_food)
             gui.drawCenteredString(GameData.getFontRenderer(), staminaString, posX + 55, posY + 2, -1);
         GlStateManager.color(1f, 1f, 1f);
         GameData.bindIcons();
@@ -5,7 +5,7 @@ import net.minecraft.client.renderer.GlStateManager;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementHealthTexture extends HudElement {
 
@@ -21,12 +21,13 @@ public class HudElementHealthTexture extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         bind(INTERFACE);
         GlStateManager.color(1f, 1f, 1f);
         int health = GameData.getPlayerHealth();
         int healthMax = GameData.getPlayerMaxHealth();
-        int posX = (this.settings.getBoolValue(Settings.render_player_face) ? 49 : 25) + this.settings.getPositionValue(Settings.health_position)[0];
-        int posY = (this.settings.getBoolValue(Settings.render_player_face) ? 9 : 5) + this.settings.getPositionValue(Settings.health_position)[1];
+        int posX = (snapshot.render_player_face ? 49 : 25) + snapshot.health_position[0];
+        int posY = (snapshot.render_player_face ? 9 : 5) + snapshot.health_position[1];
         int absorption = GameData.getPlayerAbsorption();
         if(absorption > 1)
             gui.drawTexturedModalRect(posX, posY, 0, 88, (int) (110.0D * ((double) (health + absorption) / (double) (healthMax + absorption))), 12);
@@ -38,9 +39,9 @@ public class HudElementHealthTexture extends HudElement {
             gui.drawTexturedModalRect(posX, posY, 0, 100, (int) (110.0D * ((double) health / (double) (healthMax + absorption))), 12);
         }
 
-        String stringHealth = this.settings.getBoolValue(Settings.health_percentage) ? (int) Math.floor((double) health / (double) healthMax * 100) + "%"
+        String stringHealth = snapshot.health_percentage ? (int) Math.floor((double) health / (double) healthMax * 100) + "%"
                 : (health + absorption) + "/" + healthMax;
-        if(this.settings.getBoolValue(Settings.show_numbers_health))
+        if(snapshot.show_numbers_health)
             gui.drawCenteredString(GameData.getFontRenderer(), stringHealth, posX + 55, posY + 2, -1);
         GlStateManager.color(1f, 1f, 1f);
         GameData.bindIcons();
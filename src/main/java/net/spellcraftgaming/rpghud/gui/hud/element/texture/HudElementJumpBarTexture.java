@@ -5,7 +5,7 @@ import net.minecraft.client.renderer.GlStateManager;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementJumpBarTexture extends HudElement {
 
@@ -15,14 +15,15 @@ public class HudElementJumpBarTexture extends HudElement {
 
     @Override
     public boolean checkConditions() {
-        return GameData.isRidingLivingMount() && (this.settings.getBoolValue(Settings.limit_jump_bar) ? GameData.getHorseJumpPower() > 0F : true);
+        return GameData.isRidingLivingMount() && (this.settings.getSnapshot().limit_jump_bar ? GameData.getHorseJumpPower() > 0F : true);
     }
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         bind(INTERFACE);
-        int height = scaledHeight + this.settings.getPositionValue(Settings.jump_bar_position)[1];
-        int adjustedWidth = (scaledWidth / 2) + this.settings.getPositionValue(Settings.jump_bar_position)[0];
+        int height = scaledHeight + snapshot.jump_bar_position[1];
+        int adjustedWidth = (scaledWidth / 2) + snapshot.jump_bar_position[0];
         float var14 = GameData.getHorseJumpPower();
         int color = (int) (var14 * 100.0F);
         GlStateManager.color(1f, 1f, 1f);
@@ -13,7 +13,10 @@ import net.minecraft.util.ResourceLocation;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.model.FocusModel;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudPortraitCache;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 public class HudElementEntityInspectVanilla extends HudElement {
 
@@ -21,7 +24,7 @@ public class HudElementEntityInspectVanilla extends HudElement {
 
     @Override
     public boolean checkConditions() {
-        return GameData.shouldDrawHUD() && this.settings.getBoolValue(Settings.enable_entity_inspect);
+        return GameData.shouldDrawHUD() && this.settings.getSnapshot().enable_entity_inspect;
     }
 
     public HudElementEntityInspectVanilla() {
@@ -30,14 +33,16 @@ public class HudElementEntityInspectVanilla extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float zLevel, float partialTicks, int scaledWidth, int scaledHeight) {
-        EntityLiving focused = GameData.getFocusedEntity(GameData.getPlayer());
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        EntityLiving focused = FocusModel.getFocusedEntity();
         if(focused != null) {
-            int posX = (scaledWidth / 2) + this.settings.getPositionValue(Settings.inspector_position)[0];
-            int posY = this.settings.getPositionValue(Settings.inspector_position)[1];
+            int posX = (scaledWidth / 2) + snapshot.inspector_position[0];
+            int posY = snapshot.inspector_position[1];
             this.mc.getTextureManager().bindTexture(DAMAGE_INDICATOR);
             gui.drawTexturedModalRect(posX - 62, 20 + posY, 0, 0, 128, 36);
             drawCustomBar(posX - 25, 34 + posY, 89, 8, (double) focused.getHealth() / (double) focused.getMaxHealth() * 100D,
-                    this.settings.getIntValue(Settings.color_health), offsetColorPercent(this.settings.getIntValue(Settings.color_health), OFFSET_PERCENT));
+                    snapshot.color_health, offsetColorPercent(snapshot.color_health, OFFSET_PERCENT));
+            HudQuadBatch.flush();
             String stringHealth = ((double) Math.round(focused.getHealth() * 10)) / 10 + "/" + ((double) Math.round(focused.getMaxHealth() * 10)) / 10;
             GlStateManager.scale(0.5, 0.5, 0.5);
             gui.drawCenteredString(GameData.getFontRenderer(), stringHealth, (posX - 27 + 44) * 2, (36 + posY) * 2, -1);
@@ -45,15 +50,11 @@ public class HudElementEntityInspectVanilla extends HudElement {
 
             int x = (posX - 29 + 44 - GameData.getFontRenderer().getStringWidth(focused.getName()) / 2);
             int y = 25 + posY;
-            GameData.getFontRenderer().drawString(focused.getName(), x + 1, y, 0);
-            GameData.getFontRenderer().drawString(focused.getName(), x - 1, y, 0);
-            GameData.getFontRenderer().drawString(focused.getName(), x, y + 1, 0);
-            GameData.getFontRenderer().drawString(focused.getName(), x, y - 1, 0);
-            GameData.getFontRenderer().drawString(focused.getName(), x, y, -1);
+            this.drawStringWithBackground(focused.getName(), x, y, -1, 0);
 
-            drawEntityOnScreen(posX - 60 + 16, 22 + 27 + posY, focused);
+            HudPortraitCache.draw(posX - 60 + 16, 22 + 27 + posY, focused, snapshot.inspector_portrait_interval);
             
-            if(settings.getBoolValue(Settings.show_entity_armor)) {
+            if(snapshot.show_entity_armor) {
                 int armor = focused.getTotalArmorValue();
                 if(armor > 0) {
                     String value = String.valueOf(armor);
@@ -65,11 +66,7 @@ public class HudElementEntityInspectVanilla extends HudElement {
                     gui.drawTexturedModalRect((posX - 24) * 2 -1, (posY + 45) * 2, 34, 9, 9, 9);
                     x = (posX - 18) * 2 -2;
                     y = (posY + 45) * 2 + 1;
-                    GameData.getFontRenderer().drawString(value, x + 1, y, 0);
-                    GameData.getFontRenderer().drawString(value, x - 1, y, 0);
-                    GameData.getFontRenderer().drawString(value, x, y + 1, 0);
-                    GameData.getFontRenderer().drawString(value, x, y - 1, 0);
-                    GameData.getFontRenderer().drawString(value, x, y, -1);
+                    this.drawStringWithBackground(value, x, y, -1, 0, 0.5D);
                     GlStateManager.scale(2.0, 2.0, 2.0);
                 }  
             }
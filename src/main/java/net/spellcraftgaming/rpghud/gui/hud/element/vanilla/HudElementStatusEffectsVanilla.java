@@ -1,9 +1,5 @@
 package net.spellcraftgaming.rpghud.gui.hud.element.vanilla;
 
-import java.util.Collection;
-
-import com.google.common.collect.Ordering;
-
 import net.minecraft.client.gui.Gui;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.potion.Potion;
@@ -14,7 +10,9 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.model.StatusEffectModel;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudSpriteBatch;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 @SideOnly(Side.CLIENT)
 public class HudElementStatusEffectsVanilla extends HudElement {
@@ -25,95 +23,94 @@ public class HudElementStatusEffectsVanilla extends HudElement {
 
     @Override
     public void drawElement(Gui gui, float na, float partialTicks, int scaledWidth, int scaledHeight) {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
         double scale = getScale();
         GlStateManager.scale(scale, scale, scale);
-        Collection<PotionEffect> collection = GameData.getPlayer().getActivePotionEffects();
-        if(!collection.isEmpty()) {
+        int count = StatusEffectModel.getCount();
+        if(count > 0) {
             GlStateManager.enableBlend();
-            int i = 0;
-            int j = 0;
-            this.mc.getTextureManager().bindTexture(GameData.InventoryBackground());
-            for(PotionEffect effectinstance : Ordering.natural().reverse().sortedCopy(collection)) {
-                Potion effect = effectinstance.getPotion();
-                if(!effect.shouldRenderHUD(effectinstance))
-                    continue;
-                // Rebind in case previous renderHUDEffect changed texture
-                this.mc.getTextureManager().bindTexture(GameData.InventoryBackground());
-                if(effectinstance.doesShowParticles()) {
-                    int k = getPosX(scaledWidth);
-                    int l = getPosY(scaledHeight);
-                    if(this.mc.isDemo()) {
-                        l += 15;
-                    }
-                    
-                    if(!effect.isBadEffect()) {
-                        ++i;
-                        if(rpgHud.settings.getBoolValue(Settings.status_vertical)) {
-                            k -= 25;
-                            l += 25 * (i - 1);
-                        } else {
-                            k -= 25 * i;
-                        }
-
+            boolean vertical = snapshot.status_vertical;
+            int posX = getPosX(scaledWidth);
+            int posY = getPosY(scaledHeight);
+            if(this.mc.isDemo()) {
+                posY += 15;
+            }
 
-                    } else {
-                        ++j;
-                        if(rpgHud.settings.getBoolValue(Settings.status_vertical)) {
-                            k -= 50; 
-                            l += 25 * (j - 1);
-                            
-                        } else {
-                            k -= 25 * j;
-                            l += 25;
-                        }
+            // Backgrounds and vanilla icons of all effects in one draw call
+            HudSpriteBatch.begin(GameData.InventoryBackground());
+            for(int n = 0; n < count; n++) {
+                StatusEffectModel.Slot slot = StatusEffectModel.getSlot(n);
+                int k = posX + (vertical ? slot.verticalX : slot.x);
+                int l = posY + (vertical ? slot.verticalY : slot.y);
+                if(slot.effect.getIsAmbient()) {
+                    // Background Beacon
+                    HudSpriteBatch.add(k, l, 165, 166, 24, 24, 1.0F);
+                } else {
+                    // Background Regular
+                    HudSpriteBatch.add(k, l, 141, 166, 24, 24, 1.0F);
+                }
+                if(slot.vanillaIcon) {
+                    int i1 = slot.potion.getStatusIconIndex();
+                    HudSpriteBatch.add(k + 3, l + 3, i1 % 8 * 18, 198 + i1 / 8 * 18, 18, 18, getAlpha(slot.effect));
+                }
+            }
+            HudSpriteBatch.draw();
 
-                    }
-                    GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
-                    float f = 1.0F;
-                    if(effectinstance.getIsAmbient()) {
-                        // Background Beacon
-                        gui.drawTexturedModalRect(k, l, 165, 166, 24, 24);
-                    } else {
-                        // Background Regular
-                        gui.drawTexturedModalRect(k, l, 141, 166, 24, 24);
-                        if(effectinstance.getDuration() <= 200) {
-                            int i1 = 10 - effectinstance.getDuration() / 20;
-                            f = GameData.clamp((float) effectinstance.getDuration() / 10.0F / 5.0F * 0.5F, 0.0F, 0.5F)
-                                    + MathHelper.cos((float) effectinstance.getDuration() * (float) Math.PI / 5.0F)
-                                            * GameData.clamp((float) i1 / 10.0F * 0.25F, 0.0F, 0.25F);
-                        }
-                    }
-                    GlStateManager.color(1.0F, 1.0F, 1.0F, f);
+            for(int n = 0; n < count; n++) {
+                StatusEffectModel.Slot slot = StatusEffectModel.getSlot(n);
+                PotionEffect effectinstance = slot.effect;
+                Potion effect = slot.potion;
+                int k = posX + (vertical ? slot.verticalX : slot.x);
+                int l = posY + (vertical ? slot.verticalY : slot.y);
+                if(!slot.vanillaIcon && effect.hasStatusIcon()) {
+                    // Modded icons may bind their own texture in getStatusIconIndex
+                    this.mc.getTextureManager().bindTexture(GameData.InventoryBackground());
+                    GlStateManager.color(1.0F, 1.0F, 1.0F, getAlpha(effectinstance));
                     int i1 = effect.getStatusIconIndex();
-                    if (effect.hasStatusIcon()) gui.drawTexturedModalRect(k + 3, l + 3, i1 % 8 * 18, 198 + i1 / 8 * 18, 18, 18);
-                    // Main
-                    GameData.renderPotionHUDEffect(gui, effect, effectinstance, k, l, f);
-                    if(rpgHud.settings.getBoolValue(Settings.status_time) && !effectinstance.getIsAmbient()) {
-                        int duration = effectinstance.getDuration()/20;
-                        String s = "*:**";
-                        if(duration < 600) s = String.valueOf(duration / 60 + ":" + (duration % 60 < 10 ? "0" + (duration % 60) : (duration % 60)));
-                        k -= GameData.getFontRenderer().getStringWidth(s)/2;
-                        this.drawStringWithBackground(s, k +12, l +14, -1, 0);
-                    }
+                    gui.drawTexturedModalRect(k + 3, l + 3, i1 % 8 * 18, 198 + i1 / 8 * 18, 18, 18);
+                    GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
+                }
+                if(slot.customRender) {
+                    this.mc.getTextureManager().bindTexture(GameData.InventoryBackground());
+                    GameData.renderPotionHUDEffect(gui, effect, effectinstance, k, l, getAlpha(effectinstance));
+                }
+                if(snapshot.status_time && !effectinstance.getIsAmbient()) {
+                    k -= slot.timerWidth/2;
+                    this.drawStringWithBackground(slot.timerLabel, k +12, l +14, -1, 0, scale);
                 }
             }
         }
         scale = getInvertedScale();
     }
 
+    /**
+     * Returns the alpha of the icon of the effect, which starts blinking when
+     * the effect is about to run out
+     */
+    private static float getAlpha(PotionEffect effectinstance) {
+        float f = 1.0F;
+        if(!effectinstance.getIsAmbient() && effectinstance.getDuration() <= 200) {
+            int i1 = 10 - effectinstance.getDuration() / 20;
+            f = GameData.clamp((float) effectinstance.getDuration() / 10.0F / 5.0F * 0.5F, 0.0F, 0.5F)
+                    + MathHelper.cos((float) effectinstance.getDuration() * (float) Math.PI / 5.0F)
+                            * GameData.clamp((float) i1 / 10.0F * 0.25F, 0.0F, 0.25F);
+        }
+        return f;
+    }
+
     @Override
     public int getPosX(int scaledWidth) {
-        return (int) (scaledWidth * getInvertedScale() + this.settings.getPositionValue(Settings.status_position)[0]);
+        return (int) (scaledWidth * getInvertedScale() + this.settings.getSnapshot().status_position[0]);
     }
 
     @Override
     public int getPosY(int scaledHeight) {
-        return (int) 1 + (this.settings.getPositionValue(Settings.status_position)[1]);
+        return (int) 1 + (this.settings.getSnapshot().status_position[1]);
     }
 
     @Override
     public double getScale() {
-        double scale = this.settings.getDoubleValue(Settings.status_scale);
+        double scale = this.settings.getSnapshot().status_scale;
         //if(scale != 0)
         return scale;
         //return 1;
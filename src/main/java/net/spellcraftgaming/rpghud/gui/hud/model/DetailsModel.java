@@ -0,0 +1,228 @@
+package net.spellcraftgaming.rpghud.gui.hud.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemArrow;
+import net.minecraft.item.ItemBlock;
+import net.minecraft.item.ItemBow;
+import net.minecraft.item.ItemStack;
+import net.minecraft.potion.PotionType;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import net.spellcraftgaming.lib.AmmoType;
+import net.spellcraftgaming.lib.GameData;
+import net.spellcraftgaming.lib.InventoryCountIndex;
+import net.spellcraftgaming.lib.StackFingerprint;
+import net.spellcraftgaming.lib.event.InventoryChangeEvent;
+import net.spellcraftgaming.rpghud.main.ModRPGHud;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
+
+/**
+ * The rows shown by the Details elements.<br>
+ * The rows are built once per client tick, so the labels are only formatted
+ * and measured once and all details renderers (and the width calculation of
+ * the modern one) read the same values.
+ */
+@SideOnly(Side.CLIENT)
+public class DetailsModel {
+
+    /** A single row of the details: an item and the text next to it */
+    public static class Row {
+        /** The stack to render as icon */
+        public final ItemStack icon;
+        /** The text next to the icon */
+        public final String label;
+        /** The width of the label in pixels */
+        public final int labelWidth;
+        /** The remaining durability from 0 to 1, -1 if the row shows an amount */
+        public final double durability;
+
+        private Row(ItemStack icon, String label, double durability) {
+            this.icon = icon;
+            this.label = label;
+            this.labelWidth = GameData.getFontRenderer().getStringWidth(label);
+            this.durability = durability;
+        }
+    }
+
+    private static final ItemStack ARROW = new ItemStack(Items.ARROW);
+
+    /** Sorts the kinds of arrows by item and potion */
+    private static final Comparator<AmmoType> AMMO_ORDER = new Comparator<AmmoType>() {
+        @Override
+        public int compare(AmmoType a, AmmoType b) {
+            int order = Integer.compare(Item.getIdFromItem(a.item), Item.getIdFromItem(b.item));
+            return order != 0 ? order : Integer.compare(PotionType.REGISTRY.getIDForObject(a.potion), PotionType.REGISTRY.getIDForObject(b.potion));
+        }
+    };
+
+    private static List<Row> armor = Collections.emptyList();
+    private static final Row[] hands = new Row[2];
+    private static List<Row> arrows = Collections.emptyList();
+    private static int maxLabelWidth;
+
+    /** The bow the arrow was searched for */
+    private static final StackFingerprint bow = new StackFingerprint();
+
+    /** The arrow the held bow would fire */
+    private static ItemStack itemArrow = GameData.nullStack();
+
+    /** The kind of the arrow the held bow would fire */
+    private static AmmoType ammoType;
+
+    /** Whether the arrows in the inventory changed since the arrow was searched */
+    private static boolean arrowsChanged = true;
+
+    /** Returns the rows of the damageable armor, from helmet to boots */
+    public static List<Row> getArmor() {
+        return armor;
+    }
+
+    /**
+     * Returns the row of the item in the hand
+     *
+     * @param hand 0 for the main hand, 1 for the offhand
+     * @return the row or null if nothing is shown for that hand
+     */
+    public static Row getHand(int hand) {
+        return hands[hand];
+    }
+
+    /**
+     * Returns the rows of the arrow counts, the arrow the held bow would fire
+     * first and all other kinds of arrows after it. Empty if no bow is held.
+     */
+    public static List<Row> getArrows() {
+        return arrows;
+    }
+
+    /** Returns the width of the widest label of all rows */
+    public static int getMaxLabelWidth() {
+        return maxLabelWidth;
+    }
+
+    /**
+     * Builds the rows for the current state of the player
+     */
+    public static void update() {
+        EntityPlayer player = GameData.getPlayer();
+        if(player == null) {
+            armor = Collections.emptyList();
+            hands[0] = hands[1] = null;
+            arrows = Collections.emptyList();
+            maxLabelWidth = 0;
+            return;
+        }
+        SettingsSnapshot snapshot = ModRPGHud.instance.settings.getSnapshot();
+        int width = 0;
+
+        List<Row> armorRows = new ArrayList<Row>(GameData.getPlayerArmorInventoryLength());
+        for(int i = GameData.getPlayerArmorInventoryLength() - 1; i >= 0; i--) {
+            ItemStack item = GameData.getArmorInSlot(i);
+            if(item != GameData.nullStack() && item.getItem().isDamageable()) {
+                Row row = durabilityRow(item);
+                armorRows.add(row);
+                width = Math.max(width, row.labelWidth);
+            }
+        }
+        armor = armorRows;
+
+        for(int hand = 0; hand < 2; hand++) {
+            ItemStack item = GameData.getItemInHand(hand);
+            Row row = null;
+            if(item != GameData.nullStack()) {
+                if(snapshot.show_item_durability && item.isItemStackDamageable())
+                    row = durabilityRow(item);
+                else if(snapshot.show_block_count && item.getItem() instanceof ItemBlock)
+                    row = new Row(item, "x " + InventoryCountIndex.getCount(item.getItem()), -1D);
+            }
+            hands[hand] = row;
+            if(row != null)
+                width = Math.max(width, row.labelWidth);
+        }
+
+        ItemStack item = GameData.getMainhand();
+        if(snapshot.show_arrow_count && item != GameData.nullStack() && item.getItem() instanceof ItemBow) {
+            updateArrow(item);
+            List<Row> arrowRows = new ArrayList<Row>();
+            arrowRows.add(new Row(itemArrow == GameData.nullStack() ? ARROW : itemArrow, "x " + (ammoType == null ? 0 : InventoryCountIndex.getCount(ammoType)), -1D));
+            List<AmmoType> others = new ArrayList<AmmoType>(InventoryCountIndex.getAmmoTypes());
+            others.remove(ammoType);
+            Collections.sort(others, AMMO_ORDER);
+            for(AmmoType type : others) {
+                arrowRows.add(new Row(type.getIcon(), "x " + InventoryCountIndex.getCount(type), -1D));
+            }
+            for(Row row : arrowRows) {
+                width = Math.max(width, row.labelWidth);
+            }
+            arrows = arrowRows;
+        } else {
+            arrows = Collections.emptyList();
+        }
+        maxLabelWidth = width;
+    }
+
+    private static Row durabilityRow(ItemStack item) {
+        int remaining = item.getMaxDamage() - item.getItemDamage();
+        return new Row(item, remaining + "/" + item.getMaxDamage(), (double) remaining / item.getMaxDamage());
+    }
+
+    /**
+     * Updates the arrow the held bow would fire
+     */
+    private static void updateArrow(ItemStack held) {
+        boolean bowChanged = GameData.hasStackChanged(held, bow);
+        if(arrowsChanged || bowChanged) {
+            arrowsChanged = false;
+            // No need to search the inventory if there are no arrows at all
+            ItemStack ammo = InventoryCountIndex.getAmmoTypes().isEmpty() ? GameData.nullStack() : findAmmo(GameData.getPlayer());
+            itemArrow = ammo == GameData.nullStack() ? GameData.nullStack() : ammo.copy();
+            ammoType = AmmoType.of(itemArrow);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onInventorySlotChange(InventoryChangeEvent.Slot event) {
+        if(event.involves(ItemArrow.class))
+            arrowsChanged = true;
+    }
+
+    @SubscribeEvent
+    public static void onInventoryReset(InventoryChangeEvent.Reset event) {
+        arrowsChanged = true;
+    }
+
+    /**
+     * checks if the player has arrows in his inventory and picks the one the bow
+     * would fire
+     * 
+     * @param player the player to search for arrow
+     * 
+     * @return returns the ItemStack of the arrow. If none can be found returns
+     *         ItemStack.EMPTY
+     */
+    private static ItemStack findAmmo(EntityPlayer player) {
+        if(GameData.isArrow(GameData.getOffhand())) {
+            return GameData.getOffhand();
+        } else if(GameData.isArrow(GameData.getMainhand())) {
+            return GameData.getMainhand();
+        } else {
+            for(int i = 0; i < player.inventory.getSizeInventory(); ++i) {
+                ItemStack itemstack = player.inventory.getStackInSlot(i);
+
+                if(GameData.isArrow(itemstack)) {
+                    return itemstack;
+                }
+            }
+
+            return GameData.nullStack();
+        }
+    }
+}
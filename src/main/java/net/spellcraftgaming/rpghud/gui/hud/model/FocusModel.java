@@ -0,0 +1,88 @@
+package net.spellcraftgaming.rpghud.gui.hud.model;
+
+import org.apache.logging.log4j.Level;
+
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import net.spellcraftgaming.lib.GameData;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudPortraitCache;
+import net.spellcraftgaming.rpghud.main.HudLogger;
+import net.spellcraftgaming.rpghud.main.ModRPGHud;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
+
+/**
+ * The entity the player is looking at, shown by the entity inspector.<br>
+ * The ray trace to find it is done in the client tick at the configured rate
+ * instead of every frame. Once an entity is focused, it stays focused for a few
+ * samples without a hit, so the inspector doesn't flicker when the crosshair
+ * moves over the edge of its hitbox.
+ */
+@SideOnly(Side.CLIENT)
+public class FocusModel {
+
+    /** The amount of ticks an entity stays focused after the ray stopped hitting it */
+    private static final int HOLD_TICKS = 5;
+
+    private static EntityLiving focused;
+
+    /** The tick the focused entity was last hit in */
+    private static int lastHit;
+
+    private static int tick;
+
+    /** Whether the inspector was sampled in the last tick */
+    private static boolean active = false;
+
+    /**
+     * Returns the focused entity
+     *
+     * @return the entity or null if none is focused
+     */
+    public static EntityLiving getFocusedEntity() {
+        if(focused != null && focused.isDead)
+            focused = null;
+        return focused;
+    }
+
+    /**
+     * Samples the focused entity if the update rate allows it
+     */
+    public static void update() {
+        tick++;
+        EntityPlayer player = GameData.getPlayer();
+        SettingsSnapshot snapshot = ModRPGHud.instance.settings.getSnapshot();
+        if(player == null || !snapshot.enable_entity_inspect) {
+            // Nothing will be inspected until the inspector is shown again
+            if(active) {
+                focused = null;
+                HudPortraitCache.clear();
+                active = false;
+            }
+            return;
+        }
+        active = true;
+        if(tick % snapshot.inspector_update_interval != 0)
+            return;
+        long time = System.nanoTime();
+        EntityLiving hit = GameData.getFocusedEntity(player, snapshot.inspector_reach);
+        if(HudLogger.isEnabled(HudLogger.Category.RENDER, Level.DEBUG)) {
+            long marchTime = System.nanoTime() - time;
+            // Run the old broadphase on the same sample to compare both
+            time = System.nanoTime();
+            EntityLiving boxHit = GameData.getFocusedEntityInBox(player, snapshot.inspector_reach);
+            long boxTime = System.nanoTime() - time;
+            HudLogger.logRateLimited(HudLogger.Category.RENDER, Level.DEBUG, "focus", 5000L,
+                    "Focus ray trace took " + marchTime / 1000L + "us (box broadphase " + boxTime / 1000L + "us" + (boxHit != hit ? ", different hit" : "")
+                            + ") with " + player.world.loadedEntityList.size() + " loaded entities");
+        }
+        if(hit != null) {
+            focused = hit;
+            lastHit = tick;
+        } else if(focused != null && (tick - lastHit > HOLD_TICKS || focused.isDead || focused.world != player.world
+                || focused.getDistanceSq(player) > snapshot.inspector_reach * snapshot.inspector_reach)) {
+            focused = null;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package net.spellcraftgaming.rpghud.gui.hud.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.potion.Potion;
+import net.minecraft.potion.PotionEffect;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import net.spellcraftgaming.lib.GameData;
+
+/**
+ * The status effects shown by the status effect element.<br>
+ * The effects are kept sorted between ticks. Since all durations count down at
+ * the same speed, their order only changes when an effect is added, removed
+ * or changed (e.g. refreshed by a new potion), so the effects are only sorted
+ * and laid out again in that case.
+ */
+@SideOnly(Side.CLIENT)
+public class StatusEffectModel {
+
+    /** An effect shown by the element and its place relative to the element */
+    public static class Slot {
+        public PotionEffect effect;
+        public Potion potion;
+        /** The offset of the slot in the horizontal layout */
+        public int x;
+        public int y;
+        /** The offset of the slot in the vertical layout */
+        public int verticalX;
+        public int verticalY;
+        /** Whether the icon is taken from the inventory background and can be batched */
+        public boolean vanillaIcon;
+        /** Whether the potion draws something itself in renderHUDEffect */
+        public boolean customRender;
+        /** The remaining time of the effect, like "1:05" */
+        public String timerLabel;
+        /** The width of the timer label in pixels */
+        public int timerWidth;
+        /** The remaining seconds the timer label was formatted for */
+        private int timerSeconds = -1;
+
+        /**
+         * Updates the timer label when the effect reached the next second
+         */
+        private void updateTimer() {
+            int seconds = this.effect.getDuration() / 20;
+            if(seconds == this.timerSeconds)
+                return;
+            this.timerSeconds = seconds;
+            this.timerLabel = seconds < TIMER_LABELS.length ? TIMER_LABELS[seconds] : "*:**";
+            this.timerWidth = GameData.getFontRenderer().getStringWidth(this.timerLabel);
+        }
+    }
+
+    /** The state of an active effect seen in the last tick */
+    private static class Tracked {
+        private PotionEffect effect;
+        private int duration;
+        private int amplifier;
+        private boolean ambient;
+        private boolean particles;
+    }
+
+    /**
+     * The duration above which effects are compared by their color instead of
+     * their duration (see PotionEffect.compareTo)
+     */
+    private static final int LONG_DURATION = 32147;
+
+    /** The timer labels from "0:00" to "9:59", longer effects show "*:**" */
+    private static final String[] TIMER_LABELS = new String[600];
+
+    static {
+        char[] buffer = new char[4];
+        buffer[1] = ':';
+        for(int i = 0; i < TIMER_LABELS.length; i++) {
+            buffer[0] = (char) ('0' + i / 60);
+            buffer[2] = (char) ('0' + i % 60 / 10);
+            buffer[3] = (char) ('0' + i % 10);
+            TIMER_LABELS[i] = new String(buffer);
+        }
+    }
+
+    /** The active effects in the order they are shown */
+    private static final List<PotionEffect> sorted = new ArrayList<PotionEffect>();
+
+    private static final List<Tracked> tracked = new ArrayList<Tracked>();
+    private static final List<Slot> slots = new ArrayList<Slot>();
+    private static int count;
+
+    /** Returns the amount of shown effects */
+    public static int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns a shown effect
+     *
+     * @param index the index of the effect, from 0 to getCount() - 1
+     */
+    public static Slot getSlot(int index) {
+        return slots.get(index);
+    }
+
+    /**
+     * Checks the active effects of the player for changes and sorts them again
+     * if needed
+     */
+    public static void update() {
+        EntityPlayer player = GameData.getPlayer();
+        if(player == null) {
+            if(!sorted.isEmpty())
+                rebuild(Collections.<PotionEffect> emptyList());
+            return;
+        }
+        Collection<PotionEffect> active = player.getActivePotionEffects();
+        boolean changed = active.size() != sorted.size();
+        for(int i = 0; !changed && i < sorted.size(); i++) {
+            Tracked t = tracked.get(i);
+            PotionEffect effect = t.effect;
+            changed = player.getActivePotionEffect(effect.getPotion()) != effect || effect.getAmplifier() != t.amplifier || effect.getIsAmbient() != t.ambient
+                    || effect.doesShowParticles() != t.particles || !isCountingDown(t.duration, effect.getDuration());
+            t.duration = effect.getDuration();
+        }
+        if(changed)
+            rebuild(active);
+        for(int i = 0; i < count; i++) {
+            slots.get(i).updateTimer();
+        }
+    }
+
+    /**
+     * Returns whether the duration only counted down since the last tick, which
+     * keeps the order of the effects
+     */
+    private static boolean isCountingDown(int previous, int duration) {
+        return (duration == previous || duration == previous - 1) && (previous > LONG_DURATION) == (duration > LONG_DURATION);
+    }
+
+    /**
+     * Sorts the effects and lays out their slots
+     */
+    private static void rebuild(Collection<PotionEffect> active) {
+        sorted.clear();
+        sorted.addAll(active);
+        Collections.sort(sorted, Collections.reverseOrder());
+        count = 0;
+        int good = 0;
+        int bad = 0;
+        for(int i = 0; i < sorted.size(); i++) {
+            PotionEffect effect = sorted.get(i);
+            if(tracked.size() <= i)
+                tracked.add(new Tracked());
+            Tracked t = tracked.get(i);
+            t.effect = effect;
+            t.duration = effect.getDuration();
+            t.amplifier = effect.getAmplifier();
+            t.ambient = effect.getIsAmbient();
+            t.particles = effect.doesShowParticles();
+
+            Potion potion = effect.getPotion();
+            if(!potion.shouldRenderHUD(effect) || !effect.doesShowParticles())
+                continue;
+            if(slots.size() <= count)
+                slots.add(new Slot());
+            Slot slot = slots.get(count++);
+            slot.effect = effect;
+            slot.potion = potion;
+            slot.timerSeconds = -1;
+            slot.vanillaIcon = GameData.hasVanillaStatusIcon(potion);
+            slot.customRender = GameData.hasCustomHUDEffect(potion);
+            if(!potion.isBadEffect()) {
+                ++good;
+                slot.x = -25 * good;
+                slot.y = 0;
+                slot.verticalX = -25;
+                slot.verticalY = 25 * (good - 1);
+            } else {
+                ++bad;
+                slot.x = -25 * bad;
+                slot.y = 25;
+                slot.verticalX = -50;
+                slot.verticalY = 25 * (bad - 1);
+            }
+        }
+        // Don't keep removed effects alive
+        for(int i = count; i < slots.size(); i++) {
+            slots.get(i).effect = null;
+            slots.get(i).potion = null;
+        }
+        for(int i = sorted.size(); i < tracked.size(); i++) {
+            tracked.get(i).effect = null;
+        }
+    }
+}
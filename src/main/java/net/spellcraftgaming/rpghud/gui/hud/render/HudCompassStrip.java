@@ -0,0 +1,196 @@
+package net.spellcraftgaming.rpghud.gui.hud.render;
+
+import org.lwjgl.opengl.GL11;
+
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.OpenGlHelper;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.client.shader.Framebuffer;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import net.spellcraftgaming.lib.GameData;
+
+/**
+ * The letters and marks of the compass.<br>
+ * All of them are rendered once into a strip texture covering a full turn,
+ * which is drawn with scrolled texture coordinates every frame. The strip is
+ * rendered again when the compass settings, the GUI scale or the resources
+ * change.
+ */
+@SideOnly(Side.CLIENT)
+public class HudCompassStrip {
+
+    /** The width of a full turn in the strip */
+    public static final int TURN = 200;
+
+    /** The width of the visible part of the strip */
+    private static final int WINDOW = 100;
+
+    /** The height of the strip, starting at the top of the marks */
+    private static final int HEIGHT = 12;
+
+    /** The distance between two markers */
+    private static final int SPACING = 25;
+
+    /** The markers from south, turning west */
+    private static final String[] MARKERS = { "S", ".", "W", ".", "N", ".", "E", "." };
+
+    private static final int NORTH = 4;
+    private static final int NORTH_COLOR = 0xE60909;
+
+    private static Framebuffer strip;
+
+    /** The settings and scale factor the strip was rendered for */
+    private static boolean inverted;
+    private static boolean colored;
+    private static int scaleFactor;
+
+    /**
+     * Draws the visible part of the compass
+     *
+     * @param centerX  the x position of the center of the compass
+     * @param posY     the y position of the compass
+     * @param rotation the rotation of the player from 0 to TURN, 0 facing south
+     * @param inverted whether the compass is inverted
+     * @param colored  whether north is colored
+     */
+    public static void draw(int centerX, int posY, double rotation, boolean inverted, boolean colored) {
+        if(!OpenGlHelper.isFramebufferEnabled()) {
+            drawDirect(centerX, posY, rotation, inverted, colored);
+            return;
+        }
+        HudQuadBatch.flush();
+        int sf = HudResolution.get().getScaleFactor();
+        if(strip == null || inverted != HudCompassStrip.inverted || colored != HudCompassStrip.colored || sf != scaleFactor) {
+            HudCompassStrip.inverted = inverted;
+            HudCompassStrip.colored = colored;
+            scaleFactor = sf;
+            render();
+        }
+
+        // In the inverted strip the markers are placed in the opposite direction
+        double start = (inverted ? TURN - rotation : rotation) - WINDOW / 2;
+        start = ((start % TURN) + TURN) % TURN;
+        double end = Math.min(start + WINDOW, TURN);
+
+        GlStateManager.enableBlend();
+        // The strip is already blended onto a transparent background
+        GlStateManager.tryBlendFuncSeparate(GL11.GL_ONE, GL11.GL_ONE_MINUS_SRC_ALPHA, GL11.GL_ONE, GL11.GL_ONE_MINUS_SRC_ALPHA);
+        GlStateManager.enableTexture2D();
+        GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
+        strip.bindFramebufferTexture();
+        Tessellator tessellator = Tessellator.getInstance();
+        BufferBuilder buffer = tessellator.getBuffer();
+        buffer.begin(7, DefaultVertexFormats.POSITION_TEX);
+        double x = centerX - WINDOW / 2;
+        addSegment(buffer, x, posY - 2, start, end);
+        // Wrap around to the beginning of the strip
+        if(start + WINDOW > TURN)
+            addSegment(buffer, x + end - start, posY - 2, 0, start + WINDOW - TURN);
+        tessellator.draw();
+        strip.unbindFramebufferTexture();
+        HudRetainedFramebuffer.applyBlendFunc();
+    }
+
+    /**
+     * Adds the quad of a part of the strip
+     *
+     * @param posX the x position of the quad on the screen
+     * @param posY the y position of the quad on the screen
+     * @param from the start of the part in the strip
+     * @param to   the end of the part in the strip
+     */
+    private static void addSegment(BufferBuilder buffer, double posX, double posY, double from, double to) {
+        double u1 = from * scaleFactor / strip.framebufferTextureWidth;
+        double u2 = to * scaleFactor / strip.framebufferTextureWidth;
+        double v = (double) strip.framebufferHeight / strip.framebufferTextureHeight;
+        double width = to - from;
+        buffer.pos(posX, posY + HEIGHT, 0.0D).tex(u1, 0.0D).endVertex();
+        buffer.pos(posX + width, posY + HEIGHT, 0.0D).tex(u2, 0.0D).endVertex();
+        buffer.pos(posX + width, posY, 0.0D).tex(u2, v).endVertex();
+        buffer.pos(posX, posY, 0.0D).tex(u1, v).endVertex();
+    }
+
+    /**
+     * Renders all markers into the strip
+     */
+    private static void render() {
+        if(strip == null) {
+            strip = new Framebuffer(TURN * scaleFactor, HEIGHT * scaleFactor, false);
+            strip.setFramebufferColor(0.0F, 0.0F, 0.0F, 0.0F);
+        } else if(strip.framebufferWidth != TURN * scaleFactor || strip.framebufferHeight != HEIGHT * scaleFactor) {
+            strip.createBindFramebuffer(TURN * scaleFactor, HEIGHT * scaleFactor);
+        }
+        strip.framebufferClear();
+        strip.bindFramebuffer(true);
+
+        GlStateManager.matrixMode(GL11.GL_PROJECTION);
+        GlStateManager.pushMatrix();
+        GlStateManager.loadIdentity();
+        GlStateManager.ortho(0.0D, TURN, HEIGHT, 0.0D, 1000.0D, 3000.0D);
+        GlStateManager.matrixMode(GL11.GL_MODELVIEW);
+        GlStateManager.pushMatrix();
+        GlStateManager.loadIdentity();
+        GlStateManager.translate(0.0F, 0.0F, -2000.0F);
+
+        GlStateManager.enableBlend();
+        GlStateManager.tryBlendFuncSeparate(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA, GL11.GL_ONE, GL11.GL_ONE_MINUS_SRC_ALPHA);
+        for(int i = 0; i < MARKERS.length; i++) {
+            int position = inverted ? (TURN - i * SPACING) % TURN : i * SPACING;
+            drawMarker(i, position, 0, colored);
+            // The marker at the start of the strip reaches over its end as well
+            if(position == 0)
+                drawMarker(i, TURN, 0, colored);
+        }
+
+        GlStateManager.matrixMode(GL11.GL_PROJECTION);
+        GlStateManager.popMatrix();
+        GlStateManager.matrixMode(GL11.GL_MODELVIEW);
+        GlStateManager.popMatrix();
+        HudRetainedFramebuffer.bindRenderTarget();
+    }
+
+    /**
+     * Draws the visible markers one by one, used without framebuffer support
+     */
+    private static void drawDirect(int centerX, int posY, double rotation, boolean inverted, boolean colored) {
+        for(int i = 0; i < MARKERS.length; i++) {
+            double offset = i * SPACING - rotation;
+            if(offset > TURN / 2)
+                offset -= TURN;
+            else if(offset <= -TURN / 2)
+                offset += TURN;
+            if(Math.abs(offset) <= WINDOW / 2)
+                drawMarker(i, centerX + (int) Math.round(inverted ? -offset : offset), posY - 2, colored);
+        }
+    }
+
+    /**
+     * Draws a marker centered on the position
+     *
+     * @param index the index of the marker
+     * @param posX  the x position of the center of the marker
+     * @param posY  the y position of the top of the strip
+     */
+    private static void drawMarker(int index, int posX, int posY, boolean colored) {
+        FontRenderer font = GameData.getFontRenderer();
+        String marker = MARKERS[index];
+        // Letters sit below the marks between them
+        int y = index % 2 == 0 ? posY + 3 : posY;
+        font.drawStringWithShadow(marker, posX - font.getStringWidth(marker) / 2, y, index == NORTH && colored ? NORTH_COLOR : 0xFFFFFF);
+    }
+
+    /**
+     * Deletes the strip, e.g. after the resources (and with them the font)
+     * were reloaded
+     */
+    public static void invalidate() {
+        if(strip != null) {
+            strip.deleteFramebuffer();
+            strip = null;
+        }
+    }
+}
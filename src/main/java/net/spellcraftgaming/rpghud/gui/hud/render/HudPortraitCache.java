@@ -0,0 +1,171 @@
+package net.spellcraftgaming.rpghud.gui.hud.render;
+
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.lwjgl.opengl.GL11;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.OpenGlHelper;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.client.shader.Framebuffer;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import net.spellcraftgaming.rpghud.gui.hud.element.vanilla.HudElementEntityInspectVanilla;
+
+/**
+ * Cache for the entity portraits of the entity inspector.<br>
+ * Instead of rendering the model of the inspected entity every frame, it is
+ * rendered into a small framebuffer at the configured interval and drawn as a
+ * textured quad in between. The portraits of the last few inspected entities
+ * are kept, the least recently inspected one is deleted first.
+ */
+@SideOnly(Side.CLIENT)
+public class HudPortraitCache {
+
+    /** The amount of portraits kept */
+    private static final int CACHE_SIZE = 8;
+
+    /** The area around the anchor of the entity the portrait covers */
+    private static final int MIN_X = -20;
+    private static final int MIN_Y = -32;
+    private static final int WIDTH = 40;
+    private static final int HEIGHT = 40;
+
+    private static class Portrait {
+        /** Weak, so cached portraits don't keep the entity (and its world) alive */
+        private final WeakReference<EntityLivingBase> entity;
+        private final Framebuffer framebuffer;
+        private long lastRender;
+
+        private Portrait(EntityLivingBase entity, Framebuffer framebuffer) {
+            this.entity = new WeakReference<EntityLivingBase>(entity);
+            this.framebuffer = framebuffer;
+        }
+    }
+
+    private static final Map<Integer, Portrait> portraits = new LinkedHashMap<Integer, Portrait>(CACHE_SIZE, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Portrait> eldest) {
+            if(size() <= CACHE_SIZE)
+                return false;
+            eldest.getValue().framebuffer.deleteFramebuffer();
+            return true;
+        }
+    };
+
+    /** The world and scale factor the portraits were rendered for */
+    private static WeakReference<World> world;
+    private static int scaleFactor;
+
+    /**
+     * Draws the portrait of the entity
+     *
+     * @param posX     the x position of the anchor of the entity
+     * @param posY     the y position of the anchor of the entity
+     * @param entity   the entity
+     * @param interval the time in ms between two renders of the portrait, 0 to
+     *                 render the entity directly every frame
+     */
+    public static void draw(int posX, int posY, EntityLivingBase entity, int interval) {
+        if(interval <= 0 || !OpenGlHelper.isFramebufferEnabled()) {
+            clear();
+            HudElementEntityInspectVanilla.drawEntityOnScreen(posX, posY, entity);
+            return;
+        }
+        int sf = HudResolution.get().getScaleFactor();
+        if(world == null || entity.world != world.get() || sf != scaleFactor) {
+            clear();
+            world = new WeakReference<World>(entity.world);
+            scaleFactor = sf;
+        }
+
+        HudQuadBatch.flush();
+        Portrait portrait = portraits.get(entity.getEntityId());
+        if(portrait == null || portrait.entity.get() != entity) {
+            if(portrait != null)
+                portrait.framebuffer.deleteFramebuffer();
+            portrait = new Portrait(entity, new Framebuffer(WIDTH * sf, HEIGHT * sf, true));
+            portrait.framebuffer.setFramebufferColor(0.0F, 0.0F, 0.0F, 0.0F);
+            portraits.put(entity.getEntityId(), portrait);
+            render(portrait, entity);
+        } else if(Minecraft.getSystemTime() - portrait.lastRender >= interval) {
+            render(portrait, entity);
+        }
+
+        Framebuffer fb = portrait.framebuffer;
+        double u = (double) fb.framebufferWidth / fb.framebufferTextureWidth;
+        double v = (double) fb.framebufferHeight / fb.framebufferTextureHeight;
+        double x = posX + MIN_X;
+        double y = posY + MIN_Y;
+
+        GlStateManager.enableBlend();
+        // The portrait is already blended onto a transparent background
+        GlStateManager.tryBlendFuncSeparate(GL11.GL_ONE, GL11.GL_ONE_MINUS_SRC_ALPHA, GL11.GL_ONE, GL11.GL_ONE_MINUS_SRC_ALPHA);
+        GlStateManager.enableTexture2D();
+        GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
+        fb.bindFramebufferTexture();
+        Tessellator tessellator = Tessellator.getInstance();
+        BufferBuilder buffer = tessellator.getBuffer();
+        buffer.begin(7, DefaultVertexFormats.POSITION_TEX);
+        buffer.pos(x, y + HEIGHT, 0.0D).tex(0.0D, 0.0D).endVertex();
+        buffer.pos(x + WIDTH, y + HEIGHT, 0.0D).tex(u, 0.0D).endVertex();
+        buffer.pos(x + WIDTH, y, 0.0D).tex(u, v).endVertex();
+        buffer.pos(x, y, 0.0D).tex(0.0D, v).endVertex();
+        tessellator.draw();
+        fb.unbindFramebufferTexture();
+        HudRetainedFramebuffer.applyBlendFunc();
+    }
+
+    /**
+     * Renders the entity into the framebuffer of the portrait
+     */
+    private static void render(Portrait portrait, EntityLivingBase entity) {
+        portrait.lastRender = Minecraft.getSystemTime();
+        portrait.framebuffer.framebufferClear();
+        portrait.framebuffer.bindFramebuffer(true);
+
+        GlStateManager.matrixMode(GL11.GL_PROJECTION);
+        GlStateManager.pushMatrix();
+        GlStateManager.loadIdentity();
+        GlStateManager.ortho(0.0D, WIDTH, HEIGHT, 0.0D, 1000.0D, 3000.0D);
+        GlStateManager.matrixMode(GL11.GL_MODELVIEW);
+        GlStateManager.pushMatrix();
+        GlStateManager.loadIdentity();
+        GlStateManager.translate(-MIN_X, -MIN_Y, -2000.0F);
+
+        GlStateManager.tryBlendFuncSeparate(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA, GL11.GL_ONE, GL11.GL_ONE_MINUS_SRC_ALPHA);
+        HudElementEntityInspectVanilla.drawEntityOnScreen(0, 0, entity);
+
+        GlStateManager.matrixMode(GL11.GL_PROJECTION);
+        GlStateManager.popMatrix();
+        GlStateManager.matrixMode(GL11.GL_MODELVIEW);
+        GlStateManager.popMatrix();
+        HudRetainedFramebuffer.bindRenderTarget();
+    }
+
+    /**
+     * Deletes all portraits
+     */
+    public static void clear() {
+        for(Portrait portrait : portraits.values()) {
+            portrait.framebuffer.deleteFramebuffer();
+        }
+        portraits.clear();
+        world = null;
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if(event.getWorld().isRemote)
+            clear();
+    }
+}
@@ -0,0 +1,137 @@
+package net.spellcraftgaming.rpghud.gui.hud.render;
+
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.WorldVertexBufferUploader;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Collects untextured, colored quads of the HUD and draws them with as few
+ * draw calls as possible.<br>
+ * While a batch is open (see {@link #begin()}) every quad is only buffered.
+ * The buffered quads have to be flushed before anything else is drawn or the
+ * transformation matrix is changed, otherwise they would end up in the wrong
+ * order or position. Outside of a batch every quad is drawn immediately.
+ */
+@SideOnly(Side.CLIENT)
+public class HudQuadBatch {
+
+    /** The buffer the quads are collected in (GL_QUADS, POSITION_COLOR) */
+    private static final BufferBuilder buffer = new BufferBuilder(4096);
+
+    private static final WorldVertexBufferUploader uploader = new WorldVertexBufferUploader();
+
+    /** Whether a batch is currently open */
+    private static boolean batching = false;
+
+    /** Whether the buffer currently holds vertices that were not drawn yet */
+    private static boolean drawing = false;
+
+    /** Amount of draw calls issued since the last call of begin() */
+    private static int drawCalls = 0;
+
+    /** Amount of quads added since the last call of begin() */
+    private static int quads = 0;
+
+    /**
+     * Opens a new batch. All quads added until {@link #end()} is called will be
+     * buffered and only drawn on {@link #flush()}
+     */
+    public static void begin() {
+        flush();
+        batching = true;
+        drawCalls = 0;
+        quads = 0;
+    }
+
+    /**
+     * Draws all remaining quads and closes the batch
+     */
+    public static void end() {
+        flush();
+        batching = false;
+    }
+
+    /** Returns whether a batch is currently open */
+    public static boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Adds a rectangle to the batch
+     *
+     * @param posX   the x position on the screen
+     * @param posY   the y position on the screen
+     * @param width  the width of the rectangle
+     * @param height the height of the rectangle
+     * @param color  the color of the rectangle (hexa format 0xAARRGGBB)
+     */
+    public static void addRect(int posX, int posY, int width, int height, int color) {
+        addQuad(posX, (double) posY + height, (double) posX + width, (double) posY + height, (double) posX + width, posY, posX, posY, color);
+    }
+
+    /**
+     * Adds a quad with four free vertices to the batch. The vertices are expected
+     * in the same order as they were passed to the Tessellator before.
+     *
+     * @param color the color of the quad (hexa format 0xAARRGGBB)
+     */
+    public static void addQuad(double x1, double y1, double x2, double y2, double x3, double y3, double x4, double y4, int color) {
+        int alpha;
+        if(color <= 0xFFFFFF && color >= 0)
+            alpha = 255;
+        else
+            alpha = color >> 24 & 255;
+        int red = color >> 16 & 255;
+        int green = color >> 8 & 255;
+        int blue = color & 255;
+
+        if(!drawing) {
+            buffer.begin(7, DefaultVertexFormats.POSITION_COLOR);
+            drawing = true;
+        }
+        buffer.pos(x1, y1, 0.0D).color(red, green, blue, alpha).endVertex();
+        buffer.pos(x2, y2, 0.0D).color(red, green, blue, alpha).endVertex();
+        buffer.pos(x3, y3, 0.0D).color(red, green, blue, alpha).endVertex();
+        buffer.pos(x4, y4, 0.0D).color(red, green, blue, alpha).endVertex();
+        quads++;
+
+        if(!batching)
+            flush();
+    }
+
+    /**
+     * Draws all buffered quads. Has to be called before any other rendering
+     * happens or the matrix gets changed while a batch is open.
+     */
+    public static void flush() {
+        if(!drawing)
+            return;
+        drawing = false;
+        GlStateManager.enableBlend();
+        GlStateManager.disableTexture2D();
+        HudRetainedFramebuffer.applyBlendFunc();
+        GlStateManager.disableDepth();
+        buffer.finishDrawing();
+        uploader.draw(buffer);
+        drawCalls++;
+        GlStateManager.enableTexture2D();
+        GlStateManager.disableBlend();
+        GlStateManager.enableDepth();
+        // The vertex colors left the current color undefined
+        GlStateManager.resetColor();
+        GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
+    }
+
+    /** Returns the amount of draw calls issued since the batch was opened */
+    public static int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /** Returns the amount of quads added since the batch was opened */
+    public static int getQuadCount() {
+        return quads;
+    }
+}
@@ -0,0 +1,90 @@
+package net.spellcraftgaming.rpghud.gui.hud.render;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import net.spellcraftgaming.rpghud.gui.hud.Hud;
+import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
+import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
+
+/**
+ * The elements of a Hud which have to be rendered by the RPG-HUD, in the order
+ * they are rendered in.<br>
+ * A plan only depends on the Hud and the settings it was compiled from, so it
+ * stays valid until the settings change (which includes switching the Hud).
+ */
+@SideOnly(Side.CLIENT)
+public class HudRenderPlan {
+
+    /**
+     * The order the elements get rendered in. The second entry of each row is
+     * the type which decides whether the vanilla element is rendered instead
+     * (null if the element can't be replaced by a vanilla one).
+     */
+    private static final HudElementType[][] ORDER = {
+            { HudElementType.WIDGET, null },
+            { HudElementType.CLOCK, null },
+            { HudElementType.DETAILS, null },
+            { HudElementType.COMPASS, null },
+            { HudElementType.ENTITY_INSPECT, null },
+            { HudElementType.HEALTH, HudElementType.HEALTH },
+            { HudElementType.ARMOR, HudElementType.ARMOR },
+            { HudElementType.FOOD, HudElementType.FOOD },
+            { HudElementType.HEALTH_MOUNT, HudElementType.HEALTH_MOUNT },
+            { HudElementType.AIR, HudElementType.AIR },
+            { HudElementType.JUMP_BAR, HudElementType.JUMP_BAR },
+            { HudElementType.EXPERIENCE, HudElementType.EXPERIENCE },
+            { HudElementType.LEVEL, HudElementType.EXPERIENCE },
+            { HudElementType.HOTBAR, HudElementType.HOTBAR },
+            { HudElementType.STATUS_EFFECTS, HudElementType.STATUS_EFFECTS } };
+
+    /** The Hud this plan was compiled for */
+    public final Hud hud;
+
+    /** The settings this plan was compiled from */
+    public final SettingsSnapshot snapshot;
+
+    /** The elements to render, in order */
+    private final HudElement[] elements;
+
+    /** The types of which the vanilla element should be rendered */
+    private final EnumSet<HudElementType> vanilla = EnumSet.noneOf(HudElementType.class);
+
+    public HudRenderPlan(Hud hud, SettingsSnapshot snapshot) {
+        this.hud = hud;
+        this.snapshot = snapshot;
+
+        for(HudElementType type : HudElementType.values()) {
+            if(hud.isVanillaElement(type) || snapshot.isRenderVanilla(type))
+                this.vanilla.add(type);
+        }
+
+        List<HudElement> elements = new ArrayList<HudElement>();
+        for(HudElementType[] entry : ORDER) {
+            HudElement element = hud.getElement(entry[0]);
+            if(element == null || snapshot.isPreventElementRender(entry[0]))
+                continue;
+            if(entry[1] != null && this.vanilla.contains(entry[1]))
+                continue;
+            elements.add(element);
+        }
+        this.elements = elements.toArray(new HudElement[elements.size()]);
+    }
+
+    /** Returns the elements to render in the order they should be rendered */
+    public HudElement[] getElements() {
+        return this.elements;
+    }
+
+    /**
+     * Returns whether the vanilla element of the type should be rendered, either
+     * because the Hud doesn't replace it or because it is forced by the settings
+     */
+    public boolean shouldRenderVanilla(HudElementType type) {
+        return this.vanilla.contains(type);
+    }
+}
@@ -0,0 +1,39 @@
+package net.spellcraftgaming.rpghud.gui.hud.render;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.ScaledResolution;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Caches the ScaledResolution used for rendering the HUD.<br>
+ * A new one is only created once the size of the window, the GUI scale or the
+ * unicode flag have changed, so all elements of a frame share the same one.
+ */
+@SideOnly(Side.CLIENT)
+public class HudResolution {
+
+    private static ScaledResolution resolution;
+
+    private static int displayWidth;
+    private static int displayHeight;
+    private static int guiScale;
+    private static boolean unicode;
+
+    /**
+     * Returns the current ScaledResolution, creating a new one if the display
+     * has changed since the last call
+     */
+    public static ScaledResolution get() {
+        Minecraft mc = Minecraft.getMinecraft();
+        if(resolution == null || mc.displayWidth != displayWidth || mc.displayHeight != displayHeight || mc.gameSettings.guiScale != guiScale
+                || mc.isUnicode() != unicode) {
+            displayWidth = mc.displayWidth;
+            displayHeight = mc.displayHeight;
+            guiScale = mc.gameSettings.guiScale;
+            unicode = mc.isUnicode();
+            resolution = new ScaledResolution(mc);
+        }
+        return resolution;
+    }
+}
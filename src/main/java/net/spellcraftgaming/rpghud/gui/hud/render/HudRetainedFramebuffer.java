@@ -0,0 +1,189 @@
+package net.spellcraftgaming.rpghud.gui.hud.render;
+
+import org.lwjgl.opengl.GL11;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.ScaledResolution;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.OpenGlHelper;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.client.shader.Framebuffer;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import net.spellcraftgaming.lib.GameData;
+
+/**
+ * Off-screen framebuffer the retained elements of the HUD are rendered into.
+ * <br>
+ * The framebuffer is only redrawn when the state of a retained element, the
+ * render plan (which changes with the settings) or the resolution changes, or
+ * when the capped HUD refresh rate is due. Every frame only its texture gets
+ * drawn onto the screen.
+ */
+@SideOnly(Side.CLIENT)
+public class HudRetainedFramebuffer {
+
+    private static Framebuffer framebuffer;
+
+    /** The render plan the framebuffer content was drawn for */
+    private static HudRenderPlan plan;
+
+    /** The resolution the framebuffer content was drawn for */
+    private static ScaledResolution resolution;
+
+    /** The time (in ms) the framebuffer content was last drawn at */
+    private static long lastDrawTime;
+
+    /** Whether the rendering is currently redirected into the framebuffer */
+    private static boolean drawing = false;
+
+    /** Returns whether the rendering is currently redirected into the framebuffer */
+    public static boolean isDrawing() {
+        return drawing;
+    }
+
+    /**
+     * Sets the blend function used by the HUD. On the screen this is
+     * {@link GameData#tryBlendFuncSeparate()}. While drawing into the
+     * framebuffer the alpha is accumulated as well, so translucent elements
+     * drawn on top of each other keep their combined coverage when the
+     * framebuffer is composited onto the screen.
+     */
+    public static void applyBlendFunc() {
+        if(drawing)
+            GlStateManager.tryBlendFuncSeparate(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA, GL11.GL_ONE, GL11.GL_ONE_MINUS_SRC_ALPHA);
+        else
+            GameData.tryBlendFuncSeparate();
+    }
+
+    /** Returns whether framebuffers are supported and enabled */
+    public static boolean isAvailable() {
+        return OpenGlHelper.isFramebufferEnabled();
+    }
+
+    /**
+     * Checks whether the content has to be drawn again to keep the refresh rate
+     *
+     * @param refreshRate the HUD refresh rate in Hz
+     */
+    public static boolean isRefreshDue(int refreshRate) {
+        return Minecraft.getSystemTime() - lastDrawTime >= 1000 / refreshRate;
+    }
+
+    /**
+     * Creates or resizes the framebuffer if needed and checks whether its
+     * content has to be drawn again
+     *
+     * @param plan          the render plan of the current frame
+     * @param res           the resolution of the current frame
+     * @param elementsDirty whether the state of a retained element has changed
+     * @return true if the content has to be drawn again
+     */
+    public static boolean prepare(HudRenderPlan plan, ScaledResolution res, boolean elementsDirty) {
+        Minecraft mc = Minecraft.getMinecraft();
+        boolean dirty = elementsDirty || plan != HudRetainedFramebuffer.plan || res != resolution;
+        if(framebuffer == null) {
+            // Item and entity models drawn by capped elements need a depth buffer
+            framebuffer = new Framebuffer(mc.displayWidth, mc.displayHeight, true);
+            framebuffer.setFramebufferColor(0.0F, 0.0F, 0.0F, 0.0F);
+            dirty = true;
+        } else if(framebuffer.framebufferWidth != mc.displayWidth || framebuffer.framebufferHeight != mc.displayHeight) {
+            framebuffer.createBindFramebuffer(mc.displayWidth, mc.displayHeight);
+            mc.getFramebuffer().bindFramebuffer(true);
+            dirty = true;
+        }
+        HudRetainedFramebuffer.plan = plan;
+        resolution = res;
+        if(dirty)
+            lastDrawTime = Minecraft.getSystemTime();
+        return dirty;
+    }
+
+    /**
+     * Clears the framebuffer (color and depth) and redirects all rendering
+     * into it
+     */
+    public static void beginDraw() {
+        HudQuadBatch.flush();
+        framebuffer.framebufferClear();
+        framebuffer.bindFramebuffer(true);
+        drawing = true;
+        applyBlendFunc();
+    }
+
+    /**
+     * Redirects the rendering back to the screen
+     */
+    public static void endDraw() {
+        HudQuadBatch.flush();
+        drawing = false;
+        Minecraft.getMinecraft().getFramebuffer().bindFramebuffer(true);
+        applyBlendFunc();
+    }
+
+    /**
+     * Binds the framebuffer the HUD is currently rendered into again, used
+     * after rendering into another framebuffer in between
+     */
+    public static void bindRenderTarget() {
+        if(drawing && framebuffer != null)
+            framebuffer.bindFramebuffer(true);
+        else
+            Minecraft.getMinecraft().getFramebuffer().bindFramebuffer(true);
+    }
+
+    /**
+     * Draws the content of the framebuffer onto the screen
+     *
+     * @param res the resolution of the current frame
+     */
+    public static void draw(ScaledResolution res) {
+        HudQuadBatch.flush();
+        double u = (double) framebuffer.framebufferWidth / (double) framebuffer.framebufferTextureWidth;
+        double v = (double) framebuffer.framebufferHeight / (double) framebuffer.framebufferTextureHeight;
+        double width = res.getScaledWidth_double();
+        double height = res.getScaledHeight_double();
+
+        GlStateManager.enableBlend();
+        // The framebuffer content is already blended onto a transparent background
+        GlStateManager.tryBlendFuncSeparate(GL11.GL_ONE, GL11.GL_ONE_MINUS_SRC_ALPHA, GL11.GL_ONE, GL11.GL_ONE_MINUS_SRC_ALPHA);
+        GlStateManager.disableAlpha();
+        GlStateManager.disableDepth();
+        GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
+        framebuffer.bindFramebufferTexture();
+        Tessellator tessellator = Tessellator.getInstance();
+        BufferBuilder buffer = tessellator.getBuffer();
+        buffer.begin(7, DefaultVertexFormats.POSITION_TEX);
+        buffer.pos(0.0D, height, 0.0D).tex(0.0D, 0.0D).endVertex();
+        buffer.pos(width, height, 0.0D).tex(u, 0.0D).endVertex();
+        buffer.pos(width, 0.0D, 0.0D).tex(u, v).endVertex();
+        buffer.pos(0.0D, 0.0D, 0.0D).tex(0.0D, v).endVertex();
+        tessellator.draw();
+        framebuffer.unbindFramebufferTexture();
+        GlStateManager.enableDepth();
+        GlStateManager.enableAlpha();
+        GameData.tryBlendFuncSeparate();
+    }
+
+    /**
+     * Marks the content as outdated, e.g. after the resources (and with them
+     * the textures) were reloaded. It is drawn again in the next frame.
+     */
+    public static void invalidate() {
+        plan = null;
+    }
+
+    /**
+     * Deletes the framebuffer, it gets created again when needed
+     */
+    public static void delete() {
+        if(framebuffer != null) {
+            framebuffer.deleteFramebuffer();
+            framebuffer = null;
+        }
+        plan = null;
+        resolution = null;
+    }
+}
@@ -0,0 +1,119 @@
+package net.spellcraftgaming.rpghud.gui.hud.render;
+
+import java.util.Arrays;
+
+import net.minecraft.client.entity.EntityPlayerSP;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import net.spellcraftgaming.lib.GameData;
+import net.spellcraftgaming.rpghud.gui.hud.HudModern;
+import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
+import net.spellcraftgaming.rpghud.main.ModRPGHud;
+
+/**
+ * Collects the game state the elements rendered in retained mode depend on.
+ * <br>
+ * Only the element types listed in {@link #isTracked(HudElementType)} can be
+ * retained, all other elements (animated ones, or ones depending on the world
+ * time, rotation or focused entity) are always rendered immediately.
+ */
+@SideOnly(Side.CLIENT)
+public class HudRetainedState {
+
+    /** The amount of values written by {@link #write(HudElementType, boolean, int[])} */
+    public static final int SIZE = 10;
+
+    /**
+     * Returns whether the look of elements of this type only depends on the
+     * state written by {@link #write(HudElementType, boolean, int[])}
+     */
+    public static boolean isTracked(HudElementType type) {
+        switch(type) {
+            case HEALTH:
+            case FOOD:
+            case ARMOR:
+            case AIR:
+            case EXPERIENCE:
+            case LEVEL:
+            case HEALTH_MOUNT:
+            case WIDGET:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Writes the state an element of the type depends on into the array
+     *
+     * @param type       the type of the element
+     * @param conditions whether the conditions of the element are met
+     * @param state      the array to write into, needs a length of SIZE
+     */
+    public static void write(HudElementType type, boolean conditions, int[] state) {
+        Arrays.fill(state, 0);
+        state[0] = conditions ? 1 : 0;
+        EntityPlayerSP player = GameData.getPlayer();
+        if(!conditions || player == null)
+            return;
+        // The modern elements share their x offset
+        state[1] = ((HudModern) ModRPGHud.instance.huds.get("modern")).getPosX();
+        switch(type) {
+            case HEALTH:
+                state[2] = GameData.getPlayerHealth();
+                state[3] = GameData.getPlayerMaxHealth();
+                state[4] = GameData.getPlayerAbsorption();
+                state[5] = (GameData.isPlayerPoisoned() ? 1 : 0) | (GameData.isPlayerWithering() ? 2 : 0) | (GameData.isPlayerRegenerating() ? 4 : 0);
+                break;
+            case FOOD:
+                state[2] = GameData.getPlayerFood();
+                state[3] = GameData.getPlayerMaxFood();
+                state[4] = (GameData.doesPlayerNeedFood() ? 1 : 0) | (GameData.isPlayerHungered() ? 2 : 0);
+                state[5] = Float.floatToIntBits(GameData.getPlayerFoodStats().getSaturationLevel());
+                writeItem(GameData.getMainhand(), state, 6);
+                writeItem(GameData.getOffhand(), state, 8);
+                break;
+            case ARMOR:
+                state[2] = GameData.getPlayerArmor();
+                break;
+            case AIR:
+                state[2] = GameData.getPlayerAir();
+                state[3] = GameData.isPlayerUnderwater() ? 1 : 0;
+                break;
+            case EXPERIENCE:
+                state[2] = Float.floatToIntBits(GameData.getPlayerXPRaw());
+                state[3] = GameData.getPlayerXP();
+                state[4] = GameData.getPlayerXPCap();
+                state[5] = GameData.getPlayerXPLevel();
+                break;
+            case LEVEL:
+                state[2] = GameData.getPlayerXPLevel();
+                break;
+            case HEALTH_MOUNT:
+                Entity mount = GameData.getMount();
+                if(mount instanceof EntityLivingBase) {
+                    state[2] = mount.getEntityId();
+                    state[3] = Float.floatToIntBits(((EntityLivingBase) mount).getHealth());
+                    state[4] = Float.floatToIntBits(((EntityLivingBase) mount).getMaxHealth());
+                }
+                break;
+            case WIDGET:
+                state[2] = GameData.isRidingLivingMount() ? 1 : 0;
+                state[3] = player.getLocationSkin().hashCode();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static void writeItem(ItemStack item, int[] state, int index) {
+        if(item == GameData.nullStack())
+            return;
+        state[index] = Item.getIdFromItem(item.getItem());
+        state[index + 1] = item.getMetadata();
+    }
+}
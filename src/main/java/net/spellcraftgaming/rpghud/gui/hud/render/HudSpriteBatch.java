@@ -0,0 +1,84 @@
+package net.spellcraftgaming.rpghud.gui.hud.render;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.WorldVertexBufferUploader;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Collects textured sprites from a single 256x256 texture and draws them in one
+ * draw call.<br>
+ * Works like Gui.drawTexturedModalRect, but every sprite can have its own
+ * alpha. Nothing else may be drawn between {@link #begin(ResourceLocation)} and
+ * {@link #draw()}.
+ */
+@SideOnly(Side.CLIENT)
+public class HudSpriteBatch {
+
+    /** The size of one texel in texture coordinates */
+    private static final float TEXEL = 0.00390625F;
+
+    /** The buffer the sprites are collected in (GL_QUADS, POSITION_TEX_COLOR) */
+    private static final BufferBuilder buffer = new BufferBuilder(2048);
+
+    private static final WorldVertexBufferUploader uploader = new WorldVertexBufferUploader();
+
+    /** The texture of the current batch, null if no batch is open */
+    private static ResourceLocation texture;
+
+    private static int sprites = 0;
+
+    /**
+     * Opens a new batch
+     *
+     * @param texture the texture all sprites of the batch are taken from
+     */
+    public static void begin(ResourceLocation texture) {
+        HudQuadBatch.flush();
+        HudSpriteBatch.texture = texture;
+        sprites = 0;
+        buffer.begin(7, DefaultVertexFormats.POSITION_TEX_COLOR);
+    }
+
+    /**
+     * Adds a sprite to the batch
+     *
+     * @param posX     the x position on the screen
+     * @param posY     the y position on the screen
+     * @param textureX the x position of the sprite in the texture
+     * @param textureY the y position of the sprite in the texture
+     * @param width    the width of the sprite
+     * @param height   the height of the sprite
+     * @param alpha    the alpha the sprite is drawn with
+     */
+    public static void add(int posX, int posY, int textureX, int textureY, int width, int height, float alpha) {
+        buffer.pos(posX, posY + height, 0.0D).tex(textureX * TEXEL, (textureY + height) * TEXEL).color(1.0F, 1.0F, 1.0F, alpha).endVertex();
+        buffer.pos(posX + width, posY + height, 0.0D).tex((textureX + width) * TEXEL, (textureY + height) * TEXEL).color(1.0F, 1.0F, 1.0F, alpha).endVertex();
+        buffer.pos(posX + width, posY, 0.0D).tex((textureX + width) * TEXEL, textureY * TEXEL).color(1.0F, 1.0F, 1.0F, alpha).endVertex();
+        buffer.pos(posX, posY, 0.0D).tex(textureX * TEXEL, textureY * TEXEL).color(1.0F, 1.0F, 1.0F, alpha).endVertex();
+        sprites++;
+    }
+
+    /**
+     * Draws all sprites of the batch and closes it
+     */
+    public static void draw() {
+        buffer.finishDrawing();
+        if(sprites > 0) {
+            GlStateManager.enableTexture2D();
+            GlStateManager.enableBlend();
+            Minecraft.getMinecraft().getTextureManager().bindTexture(texture);
+            uploader.draw(buffer);
+            // The vertex colors left the current color undefined
+            GlStateManager.resetColor();
+            GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
+        } else {
+            buffer.reset();
+        }
+        texture = null;
+    }
+}
@@ -0,0 +1,286 @@
+package net.spellcraftgaming.rpghud.gui.hud.render;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.lwjgl.opengl.GL11;
+
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.OpenGlHelper;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.client.shader.Framebuffer;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import net.spellcraftgaming.lib.GameData;
+
+/**
+ * Cache for outlined text.<br>
+ * Instead of drawing a string five times to fake an outline, every combination
+ * of string, colors and scale is rendered once into an atlas texture and drawn
+ * as a single quad afterwards. The atlas is split into rows; when it is full
+ * the least recently used row is cleared and reused. Strings which don't fit
+ * into the atlas are drawn directly.
+ */
+@SideOnly(Side.CLIENT)
+public class HudTextCache {
+
+    /** A row of the atlas, entries are placed next to each other */
+    private static class Row {
+        private final int y;
+        private final int height;
+        private int x = 0;
+        private long lastUsed = 0;
+        private final List<Key> keys = new ArrayList<Key>();
+
+        private Row(int y, int height) {
+            this.y = y;
+            this.height = height;
+        }
+    }
+
+    private static class Key {
+        private String text;
+        private int colorMain;
+        private int colorOutline;
+        private double density;
+
+        private Key set(String text, int colorMain, int colorOutline, double density) {
+            this.text = text;
+            this.colorMain = colorMain;
+            this.colorOutline = colorOutline;
+            this.density = density;
+            return this;
+        }
+
+        @Override
+        public int hashCode() {
+            long d = Double.doubleToLongBits(this.density);
+            return ((this.text.hashCode() * 31 + this.colorMain) * 31 + this.colorOutline) * 31 + (int) (d ^ (d >>> 32));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof Key))
+                return false;
+            Key k = (Key) o;
+            return this.colorMain == k.colorMain && this.colorOutline == k.colorOutline && this.density == k.density && this.text.equals(k.text);
+        }
+    }
+
+    private static class Entry {
+        private final Row row;
+        private final int x;
+        private final int width;
+
+        private Entry(Row row, int x, int width) {
+            this.row = row;
+            this.x = x;
+            this.width = width;
+        }
+    }
+
+    private static Framebuffer atlas;
+
+    /** The size of the atlas in pixels, 0 if the cache is disabled */
+    private static int atlasSize = 0;
+
+    private static final Map<Key, Entry> entries = new HashMap<Key, Entry>();
+    private static final List<Row> rows = new ArrayList<Row>();
+    private static int nextRowY = 0;
+
+    /** Reusable key for lookups */
+    private static final Key probe = new Key();
+
+    private static long frame = 0;
+
+    /**
+     * Starts a new frame
+     *
+     * @param size the size of the atlas in pixels, 0 disables the cache
+     */
+    public static void beginFrame(int size) {
+        frame++;
+        if(size != atlasSize) {
+            delete();
+            atlasSize = size;
+        }
+    }
+
+    /**
+     * Forgets all cached strings, e.g. after the resources (and with them the
+     * font) were reloaded
+     */
+    public static void invalidate() {
+        entries.clear();
+        rows.clear();
+        nextRowY = 0;
+    }
+
+    private static void delete() {
+        invalidate();
+        if(atlas != null) {
+            atlas.deleteFramebuffer();
+            atlas = null;
+        }
+    }
+
+    /**
+     * Draws a string with an outline
+     *
+     * @param text         the string
+     * @param posX         the x position of the string
+     * @param posY         the y position of the string
+     * @param colorMain    the color of the string
+     * @param colorOutline the color of the outline
+     * @param scale        the scale the current matrix is using relative to the
+     *                     GUI scale
+     */
+    public static void drawOutlined(String text, int posX, int posY, int colorMain, int colorOutline, double scale) {
+        HudQuadBatch.flush();
+        double density = HudResolution.get().getScaleFactor() * scale;
+        Entry entry = atlasSize > 0 && OpenGlHelper.isFramebufferEnabled() ? getEntry(text, colorMain, colorOutline, density) : null;
+        if(entry == null) {
+            drawDirect(text, posX, posY, colorMain, colorOutline);
+            return;
+        }
+        entry.row.lastUsed = frame;
+
+        double u1 = (double) entry.x / atlas.framebufferTextureWidth;
+        double u2 = (double) (entry.x + entry.width) / atlas.framebufferTextureWidth;
+        double v1 = (double) (atlas.framebufferHeight - entry.row.y) / atlas.framebufferTextureHeight;
+        double v2 = (double) (atlas.framebufferHeight - entry.row.y - entry.row.height) / atlas.framebufferTextureHeight;
+        double x = posX - 1;
+        double y = posY - 1;
+        double width = entry.width / density;
+        double height = entry.row.height / density;
+
+        GlStateManager.enableBlend();
+        // The atlas contains the text already blended onto a transparent background
+        GlStateManager.tryBlendFuncSeparate(GL11.GL_ONE, GL11.GL_ONE_MINUS_SRC_ALPHA, GL11.GL_ONE, GL11.GL_ONE_MINUS_SRC_ALPHA);
+        GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
+        atlas.bindFramebufferTexture();
+        Tessellator tessellator = Tessellator.getInstance();
+        BufferBuilder buffer = tessellator.getBuffer();
+        buffer.begin(7, DefaultVertexFormats.POSITION_TEX);
+        buffer.pos(x, y + height, 0.0D).tex(u1, v2).endVertex();
+        buffer.pos(x + width, y + height, 0.0D).tex(u2, v2).endVertex();
+        buffer.pos(x + width, y, 0.0D).tex(u2, v1).endVertex();
+        buffer.pos(x, y, 0.0D).tex(u1, v1).endVertex();
+        tessellator.draw();
+        atlas.unbindFramebufferTexture();
+        HudRetainedFramebuffer.applyBlendFunc();
+    }
+
+    /**
+     * Draws the string with the outline made of four additional strings
+     */
+    private static void drawDirect(String text, int posX, int posY, int colorMain, int colorOutline) {
+        FontRenderer font = GameData.getFontRenderer();
+        font.drawString(text, posX + 1, posY, colorOutline);
+        font.drawString(text, posX - 1, posY, colorOutline);
+        font.drawString(text, posX, posY + 1, colorOutline);
+        font.drawString(text, posX, posY - 1, colorOutline);
+        font.drawString(text, posX, posY, colorMain);
+    }
+
+    /**
+     * Returns the atlas entry of the string, rendering it into the atlas if it
+     * isn't cached yet
+     *
+     * @return the entry or null if the string doesn't fit into the atlas
+     */
+    private static Entry getEntry(String text, int colorMain, int colorOutline, double density) {
+        Entry entry = entries.get(probe.set(text, colorMain, colorOutline, density));
+        if(entry != null)
+            return entry;
+
+        FontRenderer font = GameData.getFontRenderer();
+        int width = (int) Math.ceil((font.getStringWidth(text) + 2) * density);
+        int height = (int) Math.ceil((font.FONT_HEIGHT + 2) * density);
+        Row row = findRow(width, height);
+        if(row == null)
+            return null;
+
+        entry = new Entry(row, row.x, width);
+        Key key = new Key().set(text, colorMain, colorOutline, density);
+        row.x += width;
+        row.keys.add(key);
+        entries.put(key, entry);
+        render(text, colorMain, colorOutline, density, entry);
+        return entry;
+    }
+
+    /**
+     * Finds a row with enough space left for an entry of the size. If there is
+     * none, a new row is added or the least recently used one gets cleared.
+     */
+    private static Row findRow(int width, int height) {
+        if(width > atlasSize || height > atlasSize)
+            return null;
+        for(Row row : rows) {
+            if(row.height >= height && row.height <= height * 2 && row.x + width <= atlasSize)
+                return row;
+        }
+        if(nextRowY + height <= atlasSize) {
+            Row row = new Row(nextRowY, height);
+            nextRowY += height;
+            rows.add(row);
+            return row;
+        }
+        Row leastUsed = null;
+        for(Row row : rows) {
+            // Rows used in this frame can't be cleared, their entries may still be drawn
+            if(row.height >= height && row.lastUsed < frame && (leastUsed == null || row.lastUsed < leastUsed.lastUsed))
+                leastUsed = row;
+        }
+        if(leastUsed != null) {
+            for(Key key : leastUsed.keys)
+                entries.remove(key);
+            leastUsed.keys.clear();
+            leastUsed.x = 0;
+        }
+        return leastUsed;
+    }
+
+    /**
+     * Renders the outlined string into its place in the atlas
+     */
+    private static void render(String text, int colorMain, int colorOutline, double density, Entry entry) {
+        if(atlas == null) {
+            atlas = new Framebuffer(atlasSize, atlasSize, false);
+            atlas.setFramebufferColor(0.0F, 0.0F, 0.0F, 0.0F);
+            atlas.framebufferClear();
+        }
+        atlas.bindFramebuffer(true);
+        GL11.glEnable(GL11.GL_SCISSOR_TEST);
+        GL11.glScissor(entry.x, atlasSize - entry.row.y - entry.row.height, entry.width, entry.row.height);
+        GlStateManager.clearColor(0.0F, 0.0F, 0.0F, 0.0F);
+        GlStateManager.clear(GL11.GL_COLOR_BUFFER_BIT);
+        GL11.glDisable(GL11.GL_SCISSOR_TEST);
+
+        GlStateManager.matrixMode(GL11.GL_PROJECTION);
+        GlStateManager.pushMatrix();
+        GlStateManager.loadIdentity();
+        GlStateManager.ortho(0.0D, atlasSize, atlasSize, 0.0D, 1000.0D, 3000.0D);
+        GlStateManager.matrixMode(GL11.GL_MODELVIEW);
+        GlStateManager.pushMatrix();
+        GlStateManager.loadIdentity();
+        GlStateManager.translate(entry.x, entry.row.y, -2000.0F);
+        GlStateManager.scale(density, density, 1.0D);
+
+        GlStateManager.enableBlend();
+        GlStateManager.tryBlendFuncSeparate(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA, GL11.GL_ONE, GL11.GL_ONE_MINUS_SRC_ALPHA);
+        drawDirect(text, 1, 1, colorMain, colorOutline);
+
+        GlStateManager.matrixMode(GL11.GL_PROJECTION);
+        GlStateManager.popMatrix();
+        GlStateManager.matrixMode(GL11.GL_MODELVIEW);
+        GlStateManager.popMatrix();
+        HudRetainedFramebuffer.bindRenderTarget();
+    }
+}
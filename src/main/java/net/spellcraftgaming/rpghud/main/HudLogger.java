@@ -0,0 +1,96 @@
+package net.spellcraftgaming.rpghud.main;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Logger for diagnostics of the RPG-HUD.<br>
+ * Every category has its own level, which is OFF unless it is set with the
+ * system property "rpghud.log.&lt;category&gt;" (e.g.
+ * -Drpghud.log.render=debug) or {@link #setLevel(Category, Level)}. Messages
+ * logged from code that runs every frame should use
+ * {@link #logOnChange(Category, Level, String, Object)} or
+ * {@link #logRateLimited(Category, Level, String, long, String)} so they don't
+ * flood the log.
+ */
+public class HudLogger {
+
+    /** The categories diagnostics can be logged for */
+    public enum Category {
+        RENDER,
+        SETTINGS,
+        INVENTORY;
+    }
+
+    private static final Logger LOGGER = LogManager.getLogger(ModRPGHud.NAME);
+
+    private static final Map<Category, Level> levels = new EnumMap<Category, Level>(Category.class);
+
+    /** The last value logged for each key by logOnChange */
+    private static final Map<String, Object> lastValues = new HashMap<String, Object>();
+
+    /** The time (in ms) each key was last logged at by logRateLimited */
+    private static final Map<String, Long> lastTimes = new HashMap<String, Long>();
+
+    static {
+        for(Category category : Category.values()) {
+            levels.put(category, Level.toLevel(System.getProperty("rpghud.log." + category.name().toLowerCase()), Level.OFF));
+        }
+    }
+
+    /** Sets the level of the category, Level.OFF disables it */
+    public static void setLevel(Category category, Level level) {
+        levels.put(category, level);
+    }
+
+    /**
+     * Checks whether messages of the level would be logged for the category.
+     * Code running every frame should check this before building a message.
+     */
+    public static boolean isEnabled(Category category, Level level) {
+        return level.isMoreSpecificThan(levels.get(category));
+    }
+
+    /**
+     * Logs a message if the level is enabled for the category
+     */
+    public static void log(Category category, Level level, String message) {
+        if(isEnabled(category, level))
+            LOGGER.log(level, "[" + category.name() + "] " + message);
+    }
+
+    /**
+     * Logs the value of the key, but only if it differs from the value logged
+     * for that key last time
+     */
+    public static void logOnChange(Category category, Level level, String key, Object value) {
+        if(!isEnabled(category, level))
+            return;
+        Object lastValue = lastValues.get(key);
+        if(lastValues.containsKey(key) && (lastValue == null ? value == null : lastValue.equals(value)))
+            return;
+        lastValues.put(key, value);
+        LOGGER.log(level, "[" + category.name() + "] " + key + ": " + value);
+    }
+
+    /**
+     * Logs a message for the key at most once every interval
+     *
+     * @param interval the minimum time between two messages of this key in ms
+     */
+    public static void logRateLimited(Category category, Level level, String key, long interval, String message) {
+        if(!isEnabled(category, level))
+            return;
+        long time = System.currentTimeMillis();
+        Long lastTime = lastTimes.get(key);
+        if(lastTime != null && time - lastTime < interval)
+            return;
+        lastTimes.put(key, time);
+        LOGGER.log(level, "[" + category.name() + "] " + message);
+    }
+}
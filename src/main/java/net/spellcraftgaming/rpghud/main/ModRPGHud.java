@@ -4,12 +4,14 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.resources.IReloadableResourceManager;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.Mod.EventHandler;
 import net.minecraftforge.fml.common.event.FMLInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
+import net.spellcraftgaming.lib.event.ClientTickHandler;
 import net.spellcraftgaming.lib.event.PlayerContainerHandler;
 import net.spellcraftgaming.rpghud.gui.hud.Hud;
 import net.spellcraftgaming.rpghud.gui.hud.HudDefault;
@@ -18,7 +20,15 @@ import net.spellcraftgaming.rpghud.gui.hud.HudFullTexture;
 import net.spellcraftgaming.rpghud.gui.hud.HudHotbarWidget;
 import net.spellcraftgaming.rpghud.gui.hud.HudModern;
 import net.spellcraftgaming.rpghud.gui.hud.HudVanilla;
+import net.spellcraftgaming.rpghud.gui.hud.model.DetailsModel;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudCompassStrip;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudPortraitCache;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudRenderPlan;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudRetainedFramebuffer;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudTextCache;
+import net.spellcraftgaming.rpghud.settings.ClockFormat;
 import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 @Mod(modid = ModRPGHud.MOD_ID,
      version = ModRPGHud.VERSION,
@@ -52,8 +62,8 @@ public class ModRPGHud {
     /** Map of all registered HUDs */
     public Map<String, Hud> huds = new LinkedHashMap<String, Hud>();
 
-    /** If the HudElementDetails should be rendered again */
-    public static boolean[] renderDetailsAgain = { false, false, false };
+    /** The render plan of the active HUD */
+    private HudRenderPlan renderPlan;
 
     /**
      * The function to be run before the initialization
@@ -80,6 +90,17 @@ public class ModRPGHud {
     public void init(FMLInitializationEvent event) {
         new RenderOverlay();
         MinecraftForge.EVENT_BUS.register(new PlayerContainerHandler());
+        MinecraftForge.EVENT_BUS.register(new ClientTickHandler());
+        MinecraftForge.EVENT_BUS.register(DetailsModel.class);
+        MinecraftForge.EVENT_BUS.register(HudPortraitCache.class);
+        // Everything cached from the font or textures has to be rendered again after a reload
+        ((IReloadableResourceManager) Minecraft.getMinecraft().getResourceManager()).registerReloadListener(resourceManager -> {
+            HudTextCache.invalidate();
+            HudPortraitCache.clear();
+            ClockFormat.invalidateWidths();
+            HudCompassStrip.invalidate();
+            HudRetainedFramebuffer.invalidate();
+        });
     }
 
     /**
@@ -105,7 +126,21 @@ public class ModRPGHud {
 
     /** Returns the active HUD */
     public Hud getActiveHud() {
-        return this.huds.get(this.settings.getStringValue(Settings.hud_type));
+        return getRenderPlan().hud;
+    }
+
+    /**
+     * Returns the render plan of the active HUD. The plan is compiled again once
+     * the settings have changed.
+     */
+    public HudRenderPlan getRenderPlan() {
+        SettingsSnapshot snapshot = this.settings.getSnapshot();
+        HudRenderPlan plan = this.renderPlan;
+        if(plan == null || plan.snapshot != snapshot) {
+            plan = new HudRenderPlan(this.huds.get(snapshot.hud_type), snapshot);
+            this.renderPlan = plan;
+        }
+        return plan;
     }
 
     /** Returns the vanilla HUD */
@@ -1,5 +1,7 @@
 package net.spellcraftgaming.rpghud.main;
 
+import org.apache.logging.log4j.Level;
+
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.ScaledResolution;
 import net.minecraft.client.renderer.GlStateManager;
@@ -12,8 +14,14 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.spellcraftgaming.lib.GameData;
 import net.spellcraftgaming.rpghud.gui.hud.HudHotbarWidget;
+import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
-import net.spellcraftgaming.rpghud.settings.Settings;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudQuadBatch;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudRenderPlan;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudResolution;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudRetainedFramebuffer;
+import net.spellcraftgaming.rpghud.gui.hud.render.HudTextCache;
+import net.spellcraftgaming.rpghud.settings.SettingsSnapshot;
 
 @SideOnly(Side.CLIENT)
 public class RenderOverlay {
@@ -131,74 +139,98 @@ public class RenderOverlay {
     }
 
     private void renderOverlay(float partialTicks) {
-        this.drawElement(HudElementType.WIDGET, partialTicks);
-        this.drawElement(HudElementType.CLOCK, partialTicks);
-        this.drawElement(HudElementType.DETAILS, partialTicks);
-        this.drawElement(HudElementType.COMPASS, partialTicks);
-        this.drawElement(HudElementType.ENTITY_INSPECT, partialTicks);
-        if(!shouldRenderVanilla(HudElementType.HEALTH)) this.drawElement(HudElementType.HEALTH, partialTicks);
-        if(!shouldRenderVanilla(HudElementType.ARMOR)) this.drawElement(HudElementType.ARMOR, partialTicks);
-        if(!shouldRenderVanilla(HudElementType.FOOD)) this.drawElement(HudElementType.FOOD, partialTicks);
-        if(!shouldRenderVanilla(HudElementType.HEALTH_MOUNT)) this.drawElement(HudElementType.HEALTH_MOUNT, partialTicks);
-        if(!shouldRenderVanilla(HudElementType.AIR)) this.drawElement(HudElementType.AIR, partialTicks);
-        if(!shouldRenderVanilla(HudElementType.JUMP_BAR)) this.drawElement(HudElementType.JUMP_BAR, partialTicks);
-        if(!shouldRenderVanilla(HudElementType.EXPERIENCE)) {
-            this.drawElement(HudElementType.EXPERIENCE, partialTicks);
-            this.drawElement(HudElementType.LEVEL, partialTicks);
-        }
-        if(!shouldRenderVanilla(HudElementType.HOTBAR)) this.drawElement(HudElementType.HOTBAR, partialTicks);
-        if(!shouldRenderVanilla(HudElementType.STATUS_EFFECTS)) {
-            this.drawElement(HudElementType.STATUS_EFFECTS, partialTicks);
+        if(HudLogger.isEnabled(HudLogger.Category.RENDER, Level.DEBUG))
+            HudLogger.logRateLimited(HudLogger.Category.RENDER, Level.DEBUG, "frame", 5000L,
+                    "Last frame drew " + HudQuadBatch.getQuadCount() + " batched quads in " + HudQuadBatch.getDrawCalls() + " draw calls");
+        HudQuadBatch.begin();
+        ScaledResolution res = HudResolution.get();
+        HudRenderPlan plan = this.rpgHud.getRenderPlan();
+        HudTextCache.beginFrame(plan.snapshot.text_cache_size);
+        boolean retained = (plan.snapshot.retained_mode || plan.snapshot.hud_refresh_rate > 0) && HudRetainedFramebuffer.isAvailable();
+        if(retained)
+            this.updateRetained(plan, res, partialTicks);
+        else
+            HudRetainedFramebuffer.delete();
+
+        boolean retainedDrawn = false;
+        for(HudElement element : plan.getElements()) {
+            if(retained && isRetained(element, plan.snapshot)) {
+                // The retained elements are drawn at the position of the first one
+                if(!retainedDrawn) {
+                    HudRetainedFramebuffer.draw(res);
+                    retainedDrawn = true;
+                }
+            } else {
+                this.drawElement(element, res, partialTicks);
+            }
         }
+        HudQuadBatch.end();
     }
 
     /**
-     * Draw the specified HudElement of the HudElementType from the active Hud
-     * 
-     * @param type         the HudElementType to be rendered
-     * @param partialTicks the partialTicks to be used for animations
+     * Checks whether the element is rendered into the retained framebuffer,
+     * either because it is only redrawn on changes (retained mode) or because
+     * it is redrawn at the capped HUD refresh rate
      */
-    private void drawElement(HudElementType type, float partialTicks) {
-
-        if(this.rpgHud.getActiveHud().checkElementConditions(type)) {
-            if(!preventElementRenderType(type)) {
-                ScaledResolution res = new ScaledResolution(mc);
-                bind(GameData.icons());
-                GlStateManager.pushMatrix();
-                GlStateManager.enableBlend();
-                this.rpgHud.getActiveHud().drawElement(type, this.mc.ingameGUI, partialTicks, partialTicks, res.getScaledWidth(),
-                        res.getScaledHeight());
-                GlStateManager.popMatrix();
-            }
+    private static boolean isRetained(HudElement element, SettingsSnapshot snapshot) {
+        return (snapshot.retained_mode && element.isRetainable()) || (snapshot.hud_refresh_rate > 0 && !element.requiresEveryFrame());
+    }
 
+    /**
+     * Draws the retained elements into the framebuffer again if any of them has
+     * changed or the capped refresh rate is due
+     */
+    private void updateRetained(HudRenderPlan plan, ScaledResolution res, float partialTicks) {
+        SettingsSnapshot snapshot = plan.snapshot;
+        boolean dirty = false;
+        boolean timed = false;
+        for(HudElement element : plan.getElements()) {
+            if(!isRetained(element, snapshot))
+                continue;
+            if(snapshot.retained_mode && element.isRetainable()) {
+                if(element.updateRetainedState())
+                    dirty = true;
+            } else {
+                timed = true;
+            }
+        }
+        if(timed && HudRetainedFramebuffer.isRefreshDue(snapshot.hud_refresh_rate))
+            dirty = true;
+        if(HudRetainedFramebuffer.prepare(plan, res, dirty)) {
+            HudRetainedFramebuffer.beginDraw();
+            for(HudElement element : plan.getElements()) {
+                if(isRetained(element, snapshot))
+                    this.drawElement(element, res, partialTicks);
+            }
+            HudRetainedFramebuffer.endDraw();
         }
     }
 
     /**
-     * Checks if the HudElementType has a setting to prevent it's rendering and if
-     * it is activated
+     * Draw the specified HudElement of the active Hud
+     * 
+     * @param element      the HudElement to be rendered
+     * @param res          the ScaledResolution of the current frame
+     * @param partialTicks the partialTicks to be used for animations
      */
-    private boolean preventElementRenderType(HudElementType type) {
-        String id = Settings.prevent_element_render + "_" + type.name().toLowerCase();
-        if(this.rpgHud.settings.doesSettingExist(id)) {
-            return this.rpgHud.settings.getBoolValue(id);
+    private void drawElement(HudElement element, ScaledResolution res, float partialTicks) {
+
+        if(element.checkConditions()) {
+            bind(GameData.icons());
+            GlStateManager.pushMatrix();
+            GlStateManager.enableBlend();
+            element.draw(this.mc.ingameGUI, partialTicks, partialTicks, res.getScaledWidth(), res.getScaledHeight());
+            GlStateManager.popMatrix();
         }
-        return false;
     }
 
-    private boolean shouldRenderVanilla(HudElementType type) {
-        return isVanillaElement(type) || forceRenderTypeVanilla(type);
-    }
     /**
-     * Checks if the HudElementType has a setting to force the vanilla hud element
-     * to be rendered and if it is activated
+     * Checks if the vanilla hud element of the HudElementType should be rendered,
+     * either because the active Hud doesn't replace it or because it is forced by
+     * the settings
      */
-    private boolean forceRenderTypeVanilla(HudElementType type) {
-        String id = Settings.render_vanilla + "_" + type.name().toLowerCase();
-        if(this.rpgHud.settings.doesSettingExist(id)) {
-            return this.rpgHud.settings.getBoolValue(id);
-        }
-        return false;
+    private boolean shouldRenderVanilla(HudElementType type) {
+        return this.rpgHud.getRenderPlan().shouldRenderVanilla(type);
     }
 
     /**
@@ -206,17 +238,10 @@ public class RenderOverlay {
      * it is activated
      */
     private boolean preventEventType(HudElementType type) {
-        String id = Settings.prevent_event + "_" + type.name().toLowerCase();
-        if(this.rpgHud.settings.doesSettingExist(id))
-            return this.rpgHud.settings.getBoolValue(id);
-        return false;
+        return this.rpgHud.settings.getSnapshot().isPreventEvent(type);
     }
     
     private void bind(ResourceLocation res) {
         mc.getTextureManager().bindTexture(res);
     }
-    
-    private boolean isVanillaElement(HudElementType type) {
-        return ModRPGHud.instance.getActiveHud().isVanillaElement(type);
-    }
 }
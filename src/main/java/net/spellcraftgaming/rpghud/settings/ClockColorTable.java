@@ -0,0 +1,78 @@
+package net.spellcraftgaming.rpghud.settings;
+
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Builds the table of the clock colors over the time of a day.<br>
+ * The day is split into buckets of {@link #TICKS_PER_BUCKET} ticks, so the
+ * color at a world time is a single array lookup.
+ */
+@SideOnly(Side.CLIENT)
+public class ClockColorTable {
+
+    public static final int TICKS_PER_BUCKET = 24;
+    public static final int BUCKETS = 24000 / TICKS_PER_BUCKET;
+
+    /** The times (in ticks of a day) the colors below start at */
+    private static final int[] KEYFRAME_TIMES = { 0, 6000, 11000, 12000, 13000, 13500, 18000, 21000, 22250, 22500, 23000 };
+
+    /** The colors of the times of the day, from sunrise over night to sunrise */
+    private static final int[] KEYFRAME_COLORS = { 0xFFAF00, 0xFFCF00, 0xFFAF00, 0xFFA200, 0xE36E21, 0x345D74, 0x1F3847, 0x345D74, 0x775D74, 0xE36E21, 0xFFA200 };
+
+    /**
+     * Builds the table
+     *
+     * @param smooth whether the colors should blend into each other, otherwise
+     *               every color is kept until the next one starts
+     * @return the colors of all buckets of the day
+     */
+    public static int[] build(boolean smooth) {
+        int[] table = new int[BUCKETS];
+        int keyframes = KEYFRAME_TIMES.length;
+        for(int bucket = 0; bucket < BUCKETS; bucket++) {
+            int time = bucket * TICKS_PER_BUCKET + TICKS_PER_BUCKET / 2;
+            int current = keyframes - 1;
+            while(current > 0 && KEYFRAME_TIMES[current] > time)
+                current--;
+            if(!smooth) {
+                table[bucket] = KEYFRAME_COLORS[current];
+                continue;
+            }
+            // Each color is reached in the middle of its time span
+            int previous = time < getCenter(current) ? (current + keyframes - 1) % keyframes : current;
+            int next = (previous + 1) % keyframes;
+            int start = getCenter(previous);
+            int end = getCenter(next);
+            if(end < start)
+                end += 24000;
+            if(time < start)
+                time += 24000;
+            table[bucket] = blend(KEYFRAME_COLORS[previous], KEYFRAME_COLORS[next], (float) (time - start) / (end - start));
+        }
+        return table;
+    }
+
+    /**
+     * Returns the color of the world time
+     *
+     * @param table     the table built by {@link #build(boolean)}
+     * @param worldTime the world time
+     */
+    public static int getColor(int[] table, long worldTime) {
+        return table[(int) ((worldTime % 24000L + 24000L) % 24000L) / TICKS_PER_BUCKET];
+    }
+
+    /** Returns the time in the middle of the span of a color */
+    private static int getCenter(int keyframe) {
+        int end = keyframe + 1 < KEYFRAME_TIMES.length ? KEYFRAME_TIMES[keyframe + 1] : 24000;
+        return (KEYFRAME_TIMES[keyframe] + end) / 2;
+    }
+
+    private static int blend(int from, int to, float progress) {
+        int red = (int) ((from >> 16 & 255) + ((to >> 16 & 255) - (from >> 16 & 255)) * progress);
+        int green = (int) ((from >> 8 & 255) + ((to >> 8 & 255) - (from >> 8 & 255)) * progress);
+        int blue = (int) ((from & 255) + ((to & 255) - (from & 255)) * progress);
+        return red << 16 | green << 8 | blue;
+    }
+}
@@ -0,0 +1,104 @@
+package net.spellcraftgaming.rpghud.settings;
+
+import java.util.Arrays;
+
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import net.spellcraftgaming.lib.GameData;
+
+/**
+ * The values of the clock_time_format setting.<br>
+ * Every format holds the labels for all minutes of a day, so drawing the clock
+ * doesn't need to format anything.
+ */
+@SideOnly(Side.CLIENT)
+public enum ClockFormat {
+    TIME_24("time.24"),
+    TIME_12("time.12");
+
+    public static final int MINUTES_PER_DAY = 1440;
+
+    /** The value of the setting */
+    private final String value;
+
+    /** The labels of all minutes of a day, starting at midnight */
+    private final String[] labels = new String[MINUTES_PER_DAY];
+
+    /** The widths of the labels in pixels, -1 if not measured yet */
+    private final int[] widths = new int[MINUTES_PER_DAY];
+
+    private ClockFormat(String value) {
+        this.value = value;
+        boolean twelveHour = value.equals("time.12");
+        char[] buffer = new char[twelveHour ? 8 : 5];
+        buffer[2] = ':';
+        if(twelveHour) {
+            buffer[5] = ' ';
+            buffer[7] = 'm';
+        }
+        for(int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            int hour = minute / 60;
+            if(twelveHour) {
+                buffer[6] = hour < 12 ? 'a' : 'p';
+                hour %= 12;
+                if(hour == 0)
+                    hour = 12;
+            }
+            buffer[0] = (char) ('0' + hour / 10);
+            buffer[1] = (char) ('0' + hour % 10);
+            buffer[3] = (char) ('0' + minute % 60 / 10);
+            buffer[4] = (char) ('0' + minute % 10);
+            this.labels[minute] = new String(buffer);
+        }
+        Arrays.fill(this.widths, -1);
+    }
+
+    /**
+     * Returns the label of the time
+     *
+     * @param minute the minute of the day, starting at midnight
+     */
+    public String getLabel(int minute) {
+        return this.labels[minute];
+    }
+
+    /**
+     * Returns the width of the label of the time in pixels
+     *
+     * @param minute the minute of the day, starting at midnight
+     */
+    public int getWidth(int minute) {
+        if(this.widths[minute] < 0)
+            this.widths[minute] = GameData.getFontRenderer().getStringWidth(this.labels[minute]);
+        return this.widths[minute];
+    }
+
+    /**
+     * Returns the minute of the day (starting at midnight) at the world time
+     */
+    public static int getMinuteOfDay(long worldTime) {
+        // A day starts at 6:00 and lasts 24000 ticks
+        long ticks = (worldTime % 24000L + 30000L) % 24000L;
+        return (int) (ticks * MINUTES_PER_DAY / 24000L);
+    }
+
+    /**
+     * Returns the format of the value of the setting
+     */
+    public static ClockFormat fromValue(String value) {
+        for(ClockFormat format : values()) {
+            if(format.value.equals(value))
+                return format;
+        }
+        return TIME_24;
+    }
+
+    /**
+     * Forgets the measured widths, e.g. after the font was reloaded
+     */
+    public static void invalidateWidths() {
+        for(ClockFormat format : values()) {
+            Arrays.fill(format.widths, -1);
+        }
+    }
+}
@@ -12,12 +12,16 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.logging.log4j.Level;
+
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.resources.I18n;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElement;
 import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
+import net.spellcraftgaming.rpghud.main.HudLogger;
+import net.spellcraftgaming.rpghud.main.HudLogger.Category;
 
 @SideOnly(Side.CLIENT)
 public class Settings {
@@ -25,10 +29,16 @@ public class Settings {
     private final String CONFIG_VERSION = "1.0";
     private Map<String, Setting> settings = new LinkedHashMap<String, Setting>();
     private File file;
+
+    /** The compiled values read by the HUD while rendering */
+    private volatile SettingsSnapshot snapshot;
     public static final String NEW_LINE = System.getProperty("line.separator");
 
     public static final String hud_type = "hud_type";
     public static final String enable_button_tooltip = "enable_button_tooltip";
+    public static final String retained_mode = "retained_mode";
+    public static final String hud_refresh_rate = "hud_refresh_rate";
+    public static final String text_cache_size = "text_cache_size";
     public static final String show_update_notification = "show_update_notification";
     public static final String show_convert_notification = "show_convert_notification";
     public static final String hotbar_position = "hotbar_position";
@@ -73,6 +83,7 @@ public class Settings {
     public static final String enable_clock_color = "enable_clock_color";
     public static final String enable_immersive_clock = "enable_immersive_clock";
     public static final String clock_time_format = "clock_time_format";
+    public static final String clock_color_transition = "clock_color_transition";
     public static final String clock_position = "clock_position";
 
     public static final String enable_compass = "enable_compass";
@@ -96,6 +107,9 @@ public class Settings {
     public static final String enable_entity_inspect = "enable_entity_inspect";
     public static final String inspector_position = "inspector_position";
     public static final String show_entity_armor = "show_entity_armor";
+    public static final String inspector_update_rate = "inspector_update_rate";
+    public static final String inspector_reach = "inspector_reach";
+    public static final String inspector_portrait_rate = "inspector_portrait_rate";
 
     public static final String color_air = "color_air";
     public static final String air_position = "air_position";
@@ -126,6 +140,9 @@ public class Settings {
     public void init() {
         addSetting(hud_type, new SettingHudType(hud_type, "vanilla"));
         addSetting(enable_button_tooltip, new SettingBoolean(enable_button_tooltip, true));
+        addSetting(retained_mode, new SettingBoolean(retained_mode, false));
+        addSetting(hud_refresh_rate, new SettingString(hud_refresh_rate, 0, new String[] { "refresh_rate.unlimited", "refresh_rate.60", "refresh_rate.30", "refresh_rate.20" }));
+        addSetting(text_cache_size, new SettingString(text_cache_size, 2, new String[] { "text_cache.off", "text_cache.256", "text_cache.512", "text_cache.1024" }));
         // addSetting(show_update_notification, new
         // SettingBoolean(show_update_notification, true));
         // addSetting(show_convert_notification, new
@@ -167,6 +184,7 @@ public class Settings {
         addSetting(enable_clock_color, new SettingBoolean(enable_clock_color, HudElementType.CLOCK, true));
         addSetting(enable_immersive_clock, new SettingBoolean(enable_immersive_clock, HudElementType.CLOCK, false));
         addSetting(clock_time_format, new SettingString(clock_time_format, HudElementType.CLOCK, 0, new String[] { "time.24", "time.12" }));
+        addSetting(clock_color_transition, new SettingString(clock_color_transition, HudElementType.CLOCK, 0, new String[] { "clock_color.smooth", "clock_color.steps" }));
         addSetting(clock_position, new SettingPosition(clock_position, HudElementType.CLOCK, 0, 0));
 
         addSetting(enable_compass, new SettingBoolean(enable_compass, HudElementType.COMPASS, true));
@@ -186,6 +204,9 @@ public class Settings {
 
         addSetting(enable_entity_inspect, new SettingBoolean(enable_entity_inspect, HudElementType.ENTITY_INSPECT, true));
         addSetting(show_entity_armor, new SettingBoolean(show_entity_armor, HudElementType.ENTITY_INSPECT, true));
+        addSetting(inspector_update_rate, new SettingString(inspector_update_rate, HudElementType.ENTITY_INSPECT, 0, new String[] { "inspect_rate.20", "inspect_rate.10", "inspect_rate.5" }));
+        addSetting(inspector_reach, new SettingString(inspector_reach, HudElementType.ENTITY_INSPECT, 2, new String[] { "inspect_reach.16", "inspect_reach.32", "inspect_reach.64" }));
+        addSetting(inspector_portrait_rate, new SettingString(inspector_portrait_rate, HudElementType.ENTITY_INSPECT, 1, new String[] { "portrait_rate.every_frame", "portrait_rate.20", "portrait_rate.5", "portrait_rate.once" }));
         addSetting(inspector_position, new SettingPosition(inspector_position, HudElementType.ENTITY_INSPECT, 0, 0));
 
         addSetting(color_air, new SettingColor(color_air, HudElementType.AIR, HudElement.COLOR_BLUE));
@@ -227,6 +248,23 @@ public class Settings {
         return this.settings.get(id);
     }
 
+    /**
+     * Returns the compiled values of the current settings. Elements should read
+     * their settings from here while rendering instead of using the getters of
+     * this class.
+     */
+    public SettingsSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Compiles a new snapshot of the current settings. Has to be called whenever
+     * a setting is changed without going through this class.
+     */
+    public void rebuildSnapshot() {
+        this.snapshot = new SettingsSnapshot(this);
+    }
+
     public int[] getPositionValue(String i) {
         String[] postions = this.settings.get(i).getValue().toString().split("_");
         int[] values = { Integer.valueOf(postions[0]), Integer.valueOf(postions[1]) };
@@ -261,18 +299,23 @@ public class Settings {
         Setting setting = this.settings.get(i);
         setting.resetValue();
         this.settings.put(i, setting);
+        rebuildSnapshot();
     }
 
     public void increment(String i) {
         Setting setting = this.settings.get(i);
         setting.increment();
         this.settings.put(i, setting);
+        rebuildSnapshot();
     }
 
     public void setSetting(String i, Object o) {
         Setting setting = this.settings.get(i);
+        Object oldValue = setting.getValue();
         setting.setValue(o);
         this.settings.put(i, setting);
+        if(this.snapshot == null || !oldValue.equals(setting.getValue()))
+            rebuildSnapshot();
     }
 
     public void addSetting(String id, Setting setting) {
@@ -418,7 +461,7 @@ public class Settings {
                             } else if(type[0].matches("P")) {
                                 this.setSetting(setting[0], setting[1]);
                             } else {
-                                // TODO: Logger
+                                HudLogger.log(Category.SETTINGS, Level.WARN, "Unknown type of setting " + setting[0] + ": " + type[0]);
                             }
                         }
 
@@ -428,6 +471,7 @@ public class Settings {
         } catch(IOException e) {
             e.printStackTrace();
         }
+        rebuildSnapshot();
     }
 
     private void save(BufferedWriter out) throws IOException {
@@ -0,0 +1,290 @@
+package net.spellcraftgaming.rpghud.settings;
+
+import java.util.EnumSet;
+
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import net.spellcraftgaming.rpghud.gui.hud.element.HudElementType;
+
+/**
+ * Immutable copy of all settings the HUD elements read while rendering.<br>
+ * The values are already converted into primitives and positions into
+ * {x, y} arrays, so reading them does not need any map lookup, unboxing or
+ * string parsing. A new snapshot is compiled by {@link Settings} whenever a
+ * setting changes, the arrays must therefore never be modified.
+ */
+@SideOnly(Side.CLIENT)
+public final class SettingsSnapshot {
+
+    public final String hud_type;
+    public final boolean enable_button_tooltip;
+    public final boolean retained_mode;
+    /** The HUD refresh rate in Hz, 0 if it is not capped */
+    public final int hud_refresh_rate;
+    /** The size of the outlined text cache in pixels, 0 if it is disabled */
+    public final int text_cache_size;
+
+    public final boolean reduce_size;
+    public final boolean show_armor;
+    public final boolean show_arrow_count;
+    public final boolean show_item_durability;
+    public final boolean show_block_count;
+    public final boolean show_durability_bar;
+    public final int[] armor_det_position;
+    public final int[] arrow_det_position;
+    public final int[] item_det_position;
+
+    public final boolean show_numbers_health;
+    public final boolean health_percentage;
+    public final int color_health;
+    public final int color_absorption;
+    public final int color_poison;
+    public final int color_wither;
+    public final int[] health_position;
+
+    public final boolean show_numbers_food;
+    public final boolean hunger_percentage;
+    public final boolean show_hunger_preview;
+    public final int color_food;
+    public final int color_hunger;
+    public final int[] hunger_position;
+
+    public final boolean show_numbers_experience;
+    public final boolean experience_percentage;
+    public final int color_experience;
+    public final int[] experience_position;
+
+    public final boolean mount_health_percentage;
+    public final int[] mount_health_position;
+
+    public final boolean enable_clock;
+    public final boolean enable_clock_color;
+    public final boolean enable_immersive_clock;
+    public final ClockFormat clock_time_format;
+    /** The clock colors over the day, see {@link ClockColorTable} */
+    public final int[] clock_colors;
+    public final int[] clock_position;
+
+    public final boolean enable_compass;
+    public final boolean enable_compass_color;
+    public final boolean enable_immersive_compass;
+    public final boolean enable_compass_coordinates;
+    public final boolean invert_compass;
+    public final int[] compass_position;
+
+    public final boolean render_player_face;
+    public final int[] widget_position;
+    public final int[] face_position;
+
+    public final boolean limit_jump_bar;
+    public final int color_jump_bar;
+    public final int[] jump_bar_position;
+
+    public final boolean enable_entity_inspect;
+    public final boolean show_entity_armor;
+    public final int[] inspector_position;
+    /** The amount of ticks between two samples of the focused entity */
+    public final int inspector_update_interval;
+    /** The maximum distance of the focused entity in blocks */
+    public final int inspector_reach;
+    /**
+     * The time in ms between two renders of the cached entity portrait, 0 if it
+     * is rendered every frame
+     */
+    public final int inspector_portrait_interval;
+
+    public final int color_air;
+    public final int[] air_position;
+
+    public final boolean status_vertical;
+    public final boolean status_time;
+    public final int[] status_position;
+    public final double status_scale;
+
+    public final int[] hotbar_position;
+    public final int[] level_position;
+    public final int[] armor_position;
+
+    /** The element types with an activated render_vanilla debug setting */
+    private final EnumSet<HudElementType> render_vanilla = EnumSet.noneOf(HudElementType.class);
+    /** The element types with an activated prevent_event debug setting */
+    private final EnumSet<HudElementType> prevent_event = EnumSet.noneOf(HudElementType.class);
+    /** The element types with an activated prevent_element_render debug setting */
+    private final EnumSet<HudElementType> prevent_element_render = EnumSet.noneOf(HudElementType.class);
+
+    /**
+     * Compiles a snapshot of the current values of the given settings
+     *
+     * @param settings the settings to copy the values from
+     */
+    SettingsSnapshot(Settings settings) {
+        this.hud_type = settings.getStringValue(Settings.hud_type);
+        this.enable_button_tooltip = bool(settings, Settings.enable_button_tooltip);
+        this.retained_mode = bool(settings, Settings.retained_mode);
+        this.hud_refresh_rate = refreshRate(settings.getStringValue(Settings.hud_refresh_rate));
+        this.text_cache_size = textCacheSize(settings.getStringValue(Settings.text_cache_size));
+
+        this.reduce_size = bool(settings, Settings.reduce_size);
+        this.show_armor = bool(settings, Settings.show_armor);
+        this.show_arrow_count = bool(settings, Settings.show_arrow_count);
+        this.show_item_durability = bool(settings, Settings.show_item_durability);
+        this.show_block_count = bool(settings, Settings.show_block_count);
+        this.show_durability_bar = bool(settings, Settings.show_durability_bar);
+        this.armor_det_position = position(settings, Settings.armor_det_position);
+        this.arrow_det_position = position(settings, Settings.arrow_det_position);
+        this.item_det_position = position(settings, Settings.item_det_position);
+
+        this.show_numbers_health = bool(settings, Settings.show_numbers_health);
+        this.health_percentage = bool(settings, Settings.health_percentage);
+        this.color_health = color(settings, Settings.color_health);
+        this.color_absorption = color(settings, Settings.color_absorption);
+        this.color_poison = color(settings, Settings.color_poison);
+        this.color_wither = color(settings, Settings.color_wither);
+        this.health_position = position(settings, Settings.health_position);
+
+        this.show_numbers_food = bool(settings, Settings.show_numbers_food);
+        this.hunger_percentage = bool(settings, Settings.hunger_percentage);
+        this.show_hunger_preview = bool(settings, Settings.show_hunger_preview);
+        this.color_food = color(settings, Settings.color_food);
+        this.color_hunger = color(settings, Settings.color_hunger);
+        this.hunger_position = position(settings, Settings.hunger_position);
+
+        this.show_numbers_experience = bool(settings, Settings.show_numbers_experience);
+        this.experience_percentage = bool(settings, Settings.experience_percentage);
+        this.color_experience = color(settings, Settings.color_experience);
+        this.experience_position = position(settings, Settings.experience_position);
+
+        this.mount_health_percentage = bool(settings, Settings.mount_health_percentage);
+        this.mount_health_position = position(settings, Settings.mount_health_position);
+
+        this.enable_clock = bool(settings, Settings.enable_clock);
+        this.enable_clock_color = bool(settings, Settings.enable_clock_color);
+        this.enable_immersive_clock = bool(settings, Settings.enable_immersive_clock);
+        this.clock_time_format = ClockFormat.fromValue(settings.getStringValue(Settings.clock_time_format));
+        this.clock_colors = ClockColorTable.build(!settings.getStringValue(Settings.clock_color_transition).equals("clock_color.steps"));
+        this.clock_position = position(settings, Settings.clock_position);
+
+        this.enable_compass = bool(settings, Settings.enable_compass);
+        this.enable_compass_color = bool(settings, Settings.enable_compass_color);
+        this.enable_immersive_compass = bool(settings, Settings.enable_immersive_compass);
+        this.enable_compass_coordinates = bool(settings, Settings.enable_compass_coordinates);
+        this.invert_compass = bool(settings, Settings.invert_compass);
+        this.compass_position = position(settings, Settings.compass_position);
+
+        this.render_player_face = bool(settings, Settings.render_player_face);
+        this.widget_position = position(settings, Settings.widget_position);
+        this.face_position = position(settings, Settings.face_position);
+
+        this.limit_jump_bar = bool(settings, Settings.limit_jump_bar);
+        this.color_jump_bar = color(settings, Settings.color_jump_bar);
+        this.jump_bar_position = position(settings, Settings.jump_bar_position);
+
+        this.enable_entity_inspect = bool(settings, Settings.enable_entity_inspect);
+        this.show_entity_armor = bool(settings, Settings.show_entity_armor);
+        this.inspector_position = position(settings, Settings.inspector_position);
+        this.inspector_update_interval = 20 / suffix(settings.getStringValue(Settings.inspector_update_rate), 20);
+        this.inspector_reach = suffix(settings.getStringValue(Settings.inspector_reach), 64);
+        this.inspector_portrait_interval = portraitInterval(settings.getStringValue(Settings.inspector_portrait_rate));
+
+        this.color_air = color(settings, Settings.color_air);
+        this.air_position = position(settings, Settings.air_position);
+
+        this.status_vertical = bool(settings, Settings.status_vertical);
+        this.status_time = bool(settings, Settings.status_time);
+        this.status_position = position(settings, Settings.status_position);
+        this.status_scale = settings.getDoubleValue(Settings.status_scale);
+
+        this.hotbar_position = position(settings, Settings.hotbar_position);
+        this.level_position = position(settings, Settings.level_position);
+        this.armor_position = position(settings, Settings.armor_position);
+
+        for(HudElementType type : HudElementType.values()) {
+            String name = "_" + type.name().toLowerCase();
+            if(debug(settings, Settings.render_vanilla + name))
+                this.render_vanilla.add(type);
+            if(debug(settings, Settings.prevent_event + name))
+                this.prevent_event.add(type);
+            if(debug(settings, Settings.prevent_element_render + name))
+                this.prevent_element_render.add(type);
+        }
+    }
+
+    /**
+     * Returns whether the vanilla element of the type is forced to be rendered
+     */
+    public boolean isRenderVanilla(HudElementType type) {
+        return this.render_vanilla.contains(type);
+    }
+
+    /**
+     * Returns whether the forge event of the type should be prevented
+     */
+    public boolean isPreventEvent(HudElementType type) {
+        return this.prevent_event.contains(type);
+    }
+
+    /**
+     * Returns whether the rendering of the element of the type should be
+     * prevented
+     */
+    public boolean isPreventElementRender(HudElementType type) {
+        return this.prevent_element_render.contains(type);
+    }
+
+    private static int refreshRate(String value) {
+        if(value.equals("refresh_rate.60"))
+            return 60;
+        else if(value.equals("refresh_rate.30"))
+            return 30;
+        else if(value.equals("refresh_rate.20"))
+            return 20;
+        return 0;
+    }
+
+    private static int textCacheSize(String value) {
+        if(value.equals("text_cache.256"))
+            return 256;
+        else if(value.equals("text_cache.512"))
+            return 512;
+        else if(value.equals("text_cache.1024"))
+            return 1024;
+        return 0;
+    }
+
+    /** Returns the time in ms between two renders of the entity portrait */
+    private static int portraitInterval(String value) {
+        if(value.equals("portrait_rate.once"))
+            return Integer.MAX_VALUE;
+        else if(value.equals("portrait_rate.every_frame"))
+            return 0;
+        return 1000 / suffix(value, 20);
+    }
+
+    /**
+     * Reads the number at the end of a value like "inspect_reach.64"
+     */
+    private static int suffix(String value, int defaultValue) {
+        try {
+            return Integer.parseInt(value.substring(value.lastIndexOf('.') + 1));
+        } catch(NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static boolean debug(Settings settings, String id) {
+        return settings.doesSettingExist(id) && settings.getBoolValue(id).booleanValue();
+    }
+
+    private static boolean bool(Settings settings, String id) {
+        return settings.getBoolValue(id).booleanValue();
+    }
+
+    private static int color(Settings settings, String id) {
+        return settings.getIntValue(id).intValue();
+    }
+
+    private static int[] position(Settings settings, String id) {
+        SettingPosition setting = (SettingPosition) settings.getSetting(id);
+        return new int[] { setting.x, setting.y };
+    }
+}